@@ -9,6 +9,8 @@ plugins {
     kotlin("plugin.spring") version "1.9.24"
     kotlin("plugin.jpa") version "1.9.24"
     id("org.flywaydb.flyway") version "10.0.0"
+    id("me.champeau.jmh") version "0.7.2"
+    `java-test-fixtures`
 }
 
 group = "com.example"
@@ -38,7 +40,23 @@ sourceSets {
             srcDirs("src/test/resources")
         }
     }
+    // End-to-end load test against an embedded MariaDB: ./gradlew loadTest
+    create("loadtest") {
+        java {
+            srcDirs("src/loadtest/java")
+        }
+        resources {
+            srcDirs("src/loadtest/resources")
+        }
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+val loadtestImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
 }
+configurations["loadtestRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
 
 // Configure Spring Boot main class for both bootRun and bootJar
 springBoot {
@@ -71,6 +89,12 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    
+    // Metrics
+    implementation("io.micrometer:micrometer-registry-prometheus")
+    implementation("org.hibernate.orm:hibernate-micrometer")
     
     // Database
     implementation("org.mariadb.jdbc:mariadb-java-client:3.3.0")
@@ -82,6 +106,9 @@ dependencies {
     implementation("io.jsonwebtoken:jjwt-impl:0.12.3")
     implementation("io.jsonwebtoken:jjwt-jackson:0.12.3")
     
+    // Argon2id password hashing (Spring Security's Argon2PasswordEncoder)
+    implementation("org.bouncycastle:bcprov-jdk18on:1.77")
+    
     // Lombok
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
@@ -104,6 +131,15 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
 
+    // Embedded MariaDB shared by the integration tests and the load test (src/testFixtures)
+    testFixturesApi("ch.vorburger.mariaDB4j:mariaDB4j:3.1.0")
+
+    // Benchmarks (src/jmh)
+    jmh("org.springframework:spring-test")
+
+    // Load test (src/loadtest)
+    loadtestImplementation(testFixtures(project))
+
     // Spring Boot DevTools (hot reload - only in development)
     developmentOnly("org.springframework.boot:spring-boot-devtools")
 
@@ -123,6 +159,37 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// Microbenchmarks in src/jmh/java: ./gradlew jmh
+// Results are written per version so two releases can be diffed (e.g. with jmh.morethan.io)
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results-${project.version}.json"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    timeOnIteration.set("2s")
+    warmup.set("2s")
+    // Narrow the run with -PjmhIncludes=Jwt
+    (project.findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+// Boots the app on an embedded MariaDB and fails on a regression against src/loadtest/baseline.json.
+// -PloadTestUsers, -PloadTestDuration, -PloadTestTolerance tune the run; -PupdateBaseline records a new baseline
+// (required when none exists, refused when the run had failed requests).
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the HTTP load test and compares it with the stored baseline"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("com.example.app.loadtest.LoadTestRunner")
+    systemProperty("loadtest.users", project.findProperty("loadTestUsers") ?: "16")
+    systemProperty("loadtest.duration-seconds", project.findProperty("loadTestDuration") ?: "60")
+    systemProperty("loadtest.tolerance", project.findProperty("loadTestTolerance") ?: "0.2")
+    systemProperty("loadtest.update-baseline", project.hasProperty("updateBaseline"))
+    systemProperty("loadtest.baseline", file("src/loadtest/baseline.json").path)
+    systemProperty("loadtest.results", layout.buildDirectory.file("reports/loadtest/results.json").get().asFile.path)
+}
+
 // Configure processResources to handle duplicate files
 // Exclude application-prod.properties from JAR as it should be external in production
 tasks.withType<ProcessResources> {
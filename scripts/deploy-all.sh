@@ -110,7 +110,7 @@ print_info "Waiting for backend to start..."
 sleep 10
 
 # Check backend health
-if curl -f http://localhost:8080/actuator/health > /dev/null 2>&1 || curl -f http://localhost:8080/ > /dev/null 2>&1; then
+if curl -f http://localhost:8081/actuator/health > /dev/null 2>&1 || curl -f http://localhost:8080/ > /dev/null 2>&1; then
     print_success "Backend is running"
 else
     print_error "Backend health check failed"
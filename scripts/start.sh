@@ -73,7 +73,7 @@ echo ""
 echo "⏳ Waiting for application to start..."
 timeout=120
 counter=0
-until curl -f http://localhost:8080/actuator/health 2>/dev/null || docker-compose $COMPOSE_FILES exec -T app curl -f http://localhost:8080/actuator/health 2>/dev/null; do
+until docker-compose $COMPOSE_FILES exec -T app curl -f http://localhost:8081/actuator/health 2>/dev/null; do
     sleep 3
     counter=$((counter + 3))
     if [ $counter -ge $timeout ]; then
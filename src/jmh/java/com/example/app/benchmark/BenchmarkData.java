@@ -0,0 +1,31 @@
+package com.example.app.benchmark;
+
+import com.example.app.orders.domain.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Sample entities shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Order order(Long id, LocalDateTime now) {
+        return Order.builder()
+                .id(id)
+                .userId(42L)
+                .serviceId(3L)
+                .workerId(7L)
+                .scheduledAt(now.plusDays(1))
+                .durationMinutes(90)
+                .status(Order.OrderStatus.CONFIRMED)
+                .totalAmount(new BigDecimal("350000"))
+                .notes("Gọi trước khi đến")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.app.benchmark;
+
+import com.example.app.shared.security.JwtTokenProvider;
+import com.example.app.shared.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification, which every authenticated request goes through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-with-at-least-256-bits-of-entropy";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey signingKey;
+    private String accessToken;
+    private String forgedToken;
+    private String familyId;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenExpirationMs", 86_400_000L);
+        ReflectionTestUtils.invokeMethod(jwtTokenProvider, "init");
+        signingKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        accessToken = jwtTokenProvider.generateAccessToken("42", "ROLE_USER", 1);
+        familyId = UUID.randomUUID().toString();
+        // Flip one signature character so verification fails on the MAC check
+        char last = accessToken.charAt(accessToken.length() - 1);
+        forgedToken = accessToken.substring(0, accessToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken("42", "ROLE_USER", 1);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtTokenProvider.generateRefreshToken("42", familyId);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyValid() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+
+    /**
+     * Baseline for {@link #verifyValid}: the parser built per call, as before it was cached.
+     */
+    @Benchmark
+    public Claims verifyValidPerCallParser() {
+        return Jwts.parser()
+                .verifyWith(signingKey)
+                .build()
+                .parseSignedClaims(accessToken)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyForged() {
+        return jwtTokenProvider.verify(forgedToken);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.app.benchmark;
+
+import com.example.app.news.domain.News;
+import com.example.app.news.dto.NewsDto;
+import com.example.app.news.mapper.NewsMapper;
+import com.example.app.orders.domain.Order;
+import com.example.app.orders.dto.OrderDto;
+import com.example.app.orders.mapper.OrderMapper;
+import com.example.app.services.domain.Service;
+import com.example.app.services.dto.ServiceDto;
+import com.example.app.services.mapper.ServiceMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping with the generated MapStruct mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private OrderMapper orderMapper;
+    private ServiceMapper serviceMapper;
+    private NewsMapper newsMapper;
+
+    private Order order;
+    private Service service;
+    private News news;
+
+    @Setup
+    public void setUp() {
+        orderMapper = Mappers.getMapper(OrderMapper.class);
+        serviceMapper = Mappers.getMapper(ServiceMapper.class);
+        newsMapper = Mappers.getMapper(NewsMapper.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        order = BenchmarkData.order(1L, now);
+        service = Service.builder()
+                .id(1L)
+                .name("Sửa điện")
+                .description("Sửa chữa điện dân dụng")
+                .basePrice(new BigDecimal("150000"))
+                .category("electric")
+                .details("<p>Chi tiết dịch vụ</p>")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        news = News.builder()
+                .id(1L)
+                .title("Khuyến mãi tháng 10")
+                .summary("Giảm giá 20% cho mọi dịch vụ")
+                .content("<p>Nội dung bài viết</p>".repeat(20))
+                .featured(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public OrderDto orderToDto() {
+        return orderMapper.toDto(order);
+    }
+
+    @Benchmark
+    public ServiceDto serviceToDto() {
+        return serviceMapper.toDto(service);
+    }
+
+    @Benchmark
+    public NewsDto newsToDto() {
+        return newsMapper.toDto(news);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.app.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashing and matching cost of the password profiles {@code SecurityConfig} can be set to,
+ * the dominant cost of register and login.
+ * <ul>
+ *   <li>{@code bcrypt-10}: the previous fixed strength; {@code bcrypt-12} shows the cost of raising it</li>
+ *   <li>{@code argon2id-19m}: the default Argon2id profile (19 MiB, 2 iterations, 1 lane)</li>
+ *   <li>{@code argon2id-64m}: a stronger profile (64 MiB, 3 iterations, 1 lane)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+
+    @Param({"bcrypt-10", "bcrypt-12", "argon2id-19m", "argon2id-64m"})
+    private String profile;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = switch (profile) {
+            case "bcrypt-10" -> new BCryptPasswordEncoder(10);
+            case "bcrypt-12" -> new BCryptPasswordEncoder(12);
+            case "argon2id-19m" -> new Argon2PasswordEncoder(16, 32, 1, 19456, 2);
+            case "argon2id-64m" -> new Argon2PasswordEncoder(16, 32, 1, 65536, 3);
+            default -> throw new IllegalArgumentException("Unknown profile " + profile);
+        };
+        hash = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, hash);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.app.benchmark;
+
+import com.example.app.orders.domain.Order;
+import com.example.app.orders.dto.OrderDto;
+import com.example.app.orders.mapper.OrderMapper;
+import com.example.app.shared.response.ApiResponse;
+import com.example.app.shared.util.PageUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing a paged response, the tail end of every list endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    // Configured like Spring Boot's auto-configured mapper (java.time support, ISO dates)
+    private ObjectMapper objectMapper;
+    private Page<OrderDto> page;
+    private ApiResponse<PageUtil.PageResponse<OrderDto>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        OrderMapper orderMapper = Mappers.getMapper(OrderMapper.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderDto> content = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Order order = BenchmarkData.order(id, now);
+            content.add(orderMapper.toDto(order));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+        response = ApiResponse.success(PageUtil.toPageResponse(page));
+    }
+
+    @Benchmark
+    public PageUtil.PageResponse<OrderDto> toPageResponse() {
+        return PageUtil.toPageResponse(page);
+    }
+
+    @Benchmark
+    public byte[] serializeApiResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.app.loadtest;
+
+import com.example.app.loadtest.LatencyRecorder.EndpointStats;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stored per-endpoint results a run is compared against.
+ *
+ * <p>An endpoint regresses when its p99 grows, or its throughput drops, by more than the tolerance.
+ * p50 and p999 are reported but not gated: p50 hides tail problems and p999 is too noisy for short runs.
+ * Any failed request is a regression.
+ */
+public class Baseline {
+
+    private static final TypeReference<Map<String, EndpointStats>> TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public Baseline(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public Map<String, EndpointStats> read(Path file) throws IOException {
+        return objectMapper.readValue(file.toFile(), TYPE);
+    }
+
+    /**
+     * @return endpoints with failed requests, which must not be recorded as a baseline
+     */
+    public List<String> failures(Map<String, EndpointStats> results) {
+        List<String> failures = new ArrayList<>();
+        results.forEach((endpoint, stats) -> {
+            if (stats.errors > 0) {
+                failures.add(endpoint + ": " + stats.errors + " failed requests");
+            }
+        });
+        return failures;
+    }
+
+    public void write(Path file, Map<String, EndpointStats> results) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        objectMapper.writeValue(file.toFile(), results);
+    }
+
+    /**
+     * @param tolerance allowed relative change, e.g. 0.2 for 20%
+     * @return one message per regression, empty when the run is within tolerance
+     */
+    public List<String> compare(Map<String, EndpointStats> baseline, Map<String, EndpointStats> results, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        baseline.forEach((endpoint, expected) -> {
+            EndpointStats actual = results.get(endpoint);
+            if (actual == null) {
+                regressions.add(endpoint + ": not exercised in this run");
+                return;
+            }
+            if (actual.p99Ms > expected.p99Ms * (1 + tolerance)) {
+                regressions.add(String.format("%s: p99 %.1f ms, baseline %.1f ms", endpoint, actual.p99Ms, expected.p99Ms));
+            }
+            if (actual.requestsPerSecond < expected.requestsPerSecond * (1 - tolerance)) {
+                regressions.add(String.format("%s: %.1f req/s, baseline %.1f req/s",
+                        endpoint, actual.requestsPerSecond, expected.requestsPerSecond));
+            }
+            // A baseline is only recorded from a clean run, so any failed request is a regression
+            if (actual.errors > 0) {
+                regressions.add(endpoint + ": " + actual.errors + " failed requests");
+            }
+        });
+        return regressions;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.app.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects response times per endpoint and summarizes them as percentiles and throughput.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new TreeMap<>();
+
+    public synchronized void record(String endpoint, long nanos, boolean success) {
+        samples.computeIfAbsent(endpoint, e -> new Samples()).add(nanos, success);
+    }
+
+    public synchronized void reset() {
+        samples.clear();
+    }
+
+    /**
+     * @param elapsedSeconds length of the measured window, used for requests per second
+     * @return one summary per endpoint, ordered by name
+     */
+    public synchronized Map<String, EndpointStats> summarize(double elapsedSeconds) {
+        Map<String, EndpointStats> result = new LinkedHashMap<>();
+        samples.forEach((endpoint, s) -> {
+            long[] sorted = Arrays.copyOf(s.nanos, s.count);
+            Arrays.sort(sorted);
+            result.put(endpoint, new EndpointStats(
+                    s.count,
+                    s.errors,
+                    s.count / elapsedSeconds,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.99),
+                    percentileMillis(sorted, 0.999)));
+        });
+        return result;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private static class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        void add(long value, boolean success) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (!success) {
+                errors++;
+            }
+        }
+    }
+
+    public static class EndpointStats {
+        public long requests;
+        public long errors;
+        public double requestsPerSecond;
+        public double p50Ms;
+        public double p99Ms;
+        public double p999Ms;
+
+        public EndpointStats() {
+        }
+
+        EndpointStats(long requests, long errors, double requestsPerSecond, double p50Ms, double p99Ms, double p999Ms) {
+            this.requests = requests;
+            this.errors = errors;
+            this.requestsPerSecond = requestsPerSecond;
+            this.p50Ms = p50Ms;
+            this.p99Ms = p99Ms;
+            this.p999Ms = p999Ms;
+        }
+    }
+}
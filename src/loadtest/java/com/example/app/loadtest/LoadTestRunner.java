@@ -0,0 +1,145 @@
+package com.example.app.loadtest;
+
+import com.example.app.Application;
+import com.example.app.loadtest.LatencyRecorder.EndpointStats;
+import com.example.app.support.EmbeddedMariaDb;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load test: boots the application against an embedded MariaDB migrated and seeded by
+ * Flyway, drives {@link Workload} from concurrent virtual users through the real HTTP stack,
+ * prints p50/p99/p999 and requests per second per endpoint, and fails on a regression against
+ * the stored baseline.
+ *
+ * <p>Settings (system properties, passed through by {@code ./gradlew loadTest}):
+ * <ul>
+ *   <li>{@code loadtest.users} concurrent virtual users (default 16)</li>
+ *   <li>{@code loadtest.warmup-seconds} / {@code loadtest.duration-seconds} (default 15 / 60)</li>
+ *   <li>{@code loadtest.baseline} baseline file, required unless {@code loadtest.update-baseline=true} records
+ *       it (only from a run without failed requests)</li>
+ *   <li>{@code loadtest.results} where this run's results are written</li>
+ *   <li>{@code loadtest.tolerance} allowed relative regression (default 0.2)</li>
+ * </ul>
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 16);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 15);
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+        Path baselineFile = Path.of(System.getProperty("loadtest.baseline", "src/loadtest/baseline.json"));
+        Path resultsFile = Path.of(System.getProperty("loadtest.results", "build/reports/loadtest/results.json"));
+        double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.2"));
+        boolean updateBaseline = Boolean.getBoolean("loadtest.update-baseline");
+
+        // Stopped by its shutdown hook when System.exit below ends the JVM
+        String jdbcUrl = EmbeddedMariaDb.jdbcUrl();
+
+        ConfigurableApplicationContext context = null;
+        int exitCode;
+        try {
+            context = startApplication(jdbcUrl);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            Map<String, EndpointStats> results = run(new LatencyRecorder(), "http://localhost:" + port, objectMapper,
+                    users, warmupSeconds, durationSeconds);
+            print(results);
+
+            Baseline baseline = new Baseline(objectMapper);
+            baseline.write(resultsFile, results);
+            exitCode = 0;
+            if (updateBaseline) {
+                List<String> failures = baseline.failures(results);
+                if (failures.isEmpty()) {
+                    baseline.write(baselineFile, results);
+                    System.out.println("Baseline written to " + baselineFile);
+                } else {
+                    System.out.println("Not recording a baseline from a run with failed requests:");
+                    failures.forEach(failure -> System.out.println("  " + failure));
+                    exitCode = 1;
+                }
+            } else if (!Files.exists(baselineFile)) {
+                System.out.println("No baseline at " + baselineFile + "; record one with -PupdateBaseline");
+                exitCode = 1;
+            } else {
+                List<String> regressions = baseline.compare(baseline.read(baselineFile), results, tolerance);
+                if (regressions.isEmpty()) {
+                    System.out.printf("No regression against %s (tolerance %.0f%%)%n", baselineFile, tolerance * 100);
+                } else {
+                    System.out.println("Regressions against " + baselineFile + ":");
+                    regressions.forEach(r -> System.out.println("  " + r));
+                    exitCode = 1;
+                }
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static ConfigurableApplicationContext startApplication(String jdbcUrl) {
+        return new SpringApplicationBuilder(Application.class)
+                .profiles("loadtest")
+                // Passed as arguments, since default properties would lose to application.properties
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + jdbcUrl,
+                        "--spring.datasource.username=root",
+                        "--spring.datasource.password=");
+    }
+
+    private static Map<String, EndpointStats> run(LatencyRecorder recorder, String baseUrl, ObjectMapper objectMapper,
+                                                  int users, int warmupSeconds, int durationSeconds) throws Exception {
+        Workload workload = new Workload(baseUrl, objectMapper, recorder);
+        workload.prepare();
+        List<Workload.VirtualUser> virtualUsers = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String username = "loadtest" + i;
+            workload.register(username);
+            virtualUsers.add(workload.newUser(username));
+        }
+
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        for (Workload.VirtualUser user : virtualUsers) {
+            executor.submit(() -> {
+                while (System.nanoTime() < end) {
+                    user.step();
+                }
+                return null;
+            });
+        }
+
+        System.out.printf("Warming up %d users for %d s...%n", users, warmupSeconds);
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+        recorder.reset();
+        long measureStart = System.nanoTime();
+        System.out.printf("Measuring for %d s...%n", durationSeconds);
+
+        executor.shutdown();
+        executor.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS);
+        double elapsed = (System.nanoTime() - measureStart) / 1_000_000_000.0;
+        return recorder.summarize(elapsed);
+    }
+
+    private static void print(Map<String, EndpointStats> results) {
+        System.out.printf("%n%-24s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms");
+        results.forEach((endpoint, s) -> System.out.printf("%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                endpoint, s.requests, s.errors, s.requestsPerSecond, s.p50Ms, s.p99Ms, s.p999Ms));
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.app.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weighted mix of what real clients do: browse the catalog, search workers, log in, refresh and book.
+ * Each virtual user owns one registered account and keeps its access token between requests.
+ */
+public class Workload {
+
+    private static final String PASSWORD = "LoadTest@123";
+    private static final String[] WORKER_QUERIES = {"dien", "nuoc", "sua", "dieu hoa", "ve sinh"};
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final List<Long> serviceIds = new ArrayList<>();
+
+    public Workload(String baseUrl, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Load the service ids that bookings are made against.
+     */
+    public void prepare() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(get("/api/services?page=0&size=100"));
+        for (JsonNode service : objectMapper.readTree(response.body()).path("data").path("content")) {
+            serviceIds.add(service.path("id").asLong());
+        }
+        if (serviceIds.isEmpty()) {
+            throw new IllegalStateException("No services seeded, cannot create orders");
+        }
+    }
+
+    /**
+     * Register the account a virtual user logs in with.
+     */
+    public void register(String username) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post("/api/auth/register", null, Map.of(
+                "email", username + "@loadtest.local",
+                "username", username,
+                "password", PASSWORD,
+                "confirmPassword", PASSWORD)));
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Could not register " + username + ": " + response.body());
+        }
+    }
+
+    public VirtualUser newUser(String username) {
+        return new VirtualUser(username);
+    }
+
+    public class VirtualUser {
+        private final String username;
+        private String accessToken;
+        private String refreshToken;
+
+        VirtualUser(String username) {
+            this.username = username;
+        }
+
+        /**
+         * Run one request picked from the mix.
+         */
+        public void step() throws InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int roll = random.nextInt(100);
+            if (accessToken == null || roll < 8) {
+                login();
+            } else if (roll < 13) {
+                refresh();
+            } else if (roll < 40) {
+                call("GET /api/services", get("/api/services?page=" + random.nextInt(3) + "&size=10"));
+            } else if (roll < 55) {
+                call("GET /api/services/{id}", get("/api/services/" + randomServiceId()));
+            } else if (roll < 80) {
+                call("GET /api/workers", get("/api/workers?service="
+                        + WORKER_QUERIES[random.nextInt(WORKER_QUERIES.length)].replace(" ", "%20")));
+            } else if (roll < 90) {
+                call("GET /api/orders", get("/api/orders?page=0&size=10&count=none", accessToken));
+            } else {
+                createOrder();
+            }
+        }
+
+        private void login() throws InterruptedException {
+            keepTokens(call("POST /api/auth/login",
+                    post("/api/auth/login", null, Map.of("username", username, "password", PASSWORD))));
+        }
+
+        private void refresh() throws InterruptedException {
+            keepTokens(call("POST /api/auth/refresh",
+                    post("/api/auth/refresh", null, Map.of("refreshToken", refreshToken))));
+        }
+
+        private void keepTokens(HttpResponse<String> response) throws InterruptedException {
+            if (response != null && response.statusCode() == 429) {
+                // Back off like a well-behaved client instead of hammering the hashing pool
+                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                Thread.sleep(TimeUnit.SECONDS.toMillis(retryAfter));
+            }
+            if (response == null || response.statusCode() != 200) {
+                accessToken = null;
+                return;
+            }
+            try {
+                JsonNode data = objectMapper.readTree(response.body()).path("data");
+                accessToken = data.path("accessToken").asText(null);
+                refreshToken = data.path("refreshToken").asText(null);
+            } catch (IOException e) {
+                accessToken = null;
+            }
+        }
+
+        private void createOrder() throws InterruptedException {
+            LocalDateTime scheduledAt = LocalDateTime.now().plusDays(1 + ThreadLocalRandom.current().nextInt(30)).withNano(0);
+            call("POST /api/orders", post("/api/orders", accessToken, Map.of(
+                    "serviceId", randomServiceId(),
+                    "scheduledAt", scheduledAt.toString(),
+                    "durationMinutes", 60,
+                    "addressLine", "1 Load Test Street",
+                    "city", "Ho Chi Minh")));
+        }
+    }
+
+    private HttpResponse<String> call(String endpoint, HttpRequest request) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = send(request);
+            recorder.record(endpoint, System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Long randomServiceId() {
+        return serviceIds.get(ThreadLocalRandom.current().nextInt(serviceIds.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return get(path, null);
+    }
+
+    private HttpRequest get(String path, String accessToken) {
+        return request(path, accessToken).GET().build();
+    }
+
+    private HttpRequest post(String path, String accessToken, Map<String, Object> body) {
+        try {
+            return request(path, accessToken)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+}
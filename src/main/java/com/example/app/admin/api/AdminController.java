@@ -6,6 +6,7 @@ import com.example.app.admin.dto.OrderManagementDto;
 import com.example.app.admin.dto.UserManagementDto;
 import com.example.app.orders.domain.Order;
 import com.example.app.shared.response.ApiResponse;
+import com.example.app.shared.util.PageUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -29,6 +30,12 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
 
+    @PostMapping("/dashboard/stats/rebuild")
+    public ResponseEntity<ApiResponse<AdminStatsDto>> rebuildDashboardStats() {
+        AdminStatsDto stats = adminService.rebuildDashboardStats();
+        return ResponseEntity.ok(ApiResponse.success(stats, "Dashboard counters rebuilt successfully"));
+    }
+
     @GetMapping("/users")
     public ResponseEntity<ApiResponse<Page<UserManagementDto>>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
@@ -37,13 +44,22 @@ public class AdminController {
             @RequestParam(defaultValue = "DESC") String sortDir
     ) {
         Sort sort = sortDir.equalsIgnoreCase("ASC") 
-                ? Sort.by(sortBy).ascending() 
-                : Sort.by(sortBy).descending();
+                ? Sort.by(AdminService.USER_SORTS.require(sortBy)).ascending() 
+                : Sort.by(AdminService.USER_SORTS.require(sortBy)).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<UserManagementDto> users = adminService.getAllUsers(pageable);
         return ResponseEntity.ok(ApiResponse.success(users));
     }
 
+    @GetMapping("/users/cursor")
+    public ResponseEntity<ApiResponse<PageUtil.CursorPageResponse<UserManagementDto>>> getUsersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        PageUtil.CursorPageResponse<UserManagementDto> users = adminService.getUsersByCursor(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(users));
+    }
+
     @GetMapping("/users/{id}")
     public ResponseEntity<ApiResponse<UserManagementDto>> getUserById(@PathVariable Long id) {
         UserManagementDto user = adminService.getUserById(id);
@@ -70,13 +86,22 @@ public class AdminController {
             @RequestParam(defaultValue = "DESC") String sortDir
     ) {
         Sort sort = sortDir.equalsIgnoreCase("ASC") 
-                ? Sort.by(sortBy).ascending() 
-                : Sort.by(sortBy).descending();
+                ? Sort.by(AdminService.ORDER_SORTS.require(sortBy)).ascending() 
+                : Sort.by(AdminService.ORDER_SORTS.require(sortBy)).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<OrderManagementDto> orders = adminService.getAllOrders(pageable);
         return ResponseEntity.ok(ApiResponse.success(orders));
     }
 
+    @GetMapping("/orders/cursor")
+    public ResponseEntity<ApiResponse<PageUtil.CursorPageResponse<OrderManagementDto>>> getOrdersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        PageUtil.CursorPageResponse<OrderManagementDto> orders = adminService.getOrdersByCursor(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(orders));
+    }
+
     @GetMapping("/orders/{id}")
     public ResponseEntity<ApiResponse<OrderManagementDto>> getOrderById(@PathVariable Long id) {
         OrderManagementDto order = adminService.getOrderById(id);
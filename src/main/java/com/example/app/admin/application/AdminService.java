@@ -4,51 +4,69 @@ import com.example.app.admin.dto.AdminStatsDto;
 import com.example.app.admin.dto.OrderManagementDto;
 import com.example.app.admin.dto.UserManagementDto;
 import com.example.app.auth.domain.User;
+import com.example.app.auth.repository.RefreshTokenRepository;
 import com.example.app.auth.repository.UserRepository;
 import com.example.app.orders.domain.Order;
+import com.example.app.orders.application.OrderService;
 import com.example.app.orders.repository.OrderRepository;
+import com.example.app.services.application.ServiceApplicationService;
 import com.example.app.services.repository.ServiceRepository;
+import com.example.app.shared.security.AuthenticationCache;
+import com.example.app.shared.security.TokenRevocationList;
+import com.example.app.shared.util.AfterCommit;
+import com.example.app.shared.util.ApproximateCountCache;
+import com.example.app.shared.util.PageUtil;
+import com.example.app.shared.util.SortableFields;
+import com.example.app.workers.application.WorkerBookingIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AdminService {
 
+    public static final SortableFields USER_SORTS = SortableFields.builder("auth_users")
+            .field("createdAt", "created_at", "idx_created_at")
+            .field("id", "id", "PRIMARY")
+            .field("username", "username", "idx_username")
+            .field("email", "email", "idx_email")
+            .build();
+
+    public static final SortableFields ORDER_SORTS = SortableFields.builder("orders_orders")
+            .field("createdAt", "created_at", "idx_created_at")
+            .field("id", "id", "PRIMARY")
+            .field("status", "status", "idx_status")
+            .build();
+
     private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final OrderRepository orderRepository;
     private final ServiceRepository serviceRepository;
+    private final ServiceApplicationService serviceApplicationService;
+    private final AuthenticationCache authenticationCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final AdminStatsService adminStatsService;
+    private final WorkerBookingIndex workerBookingIndex;
+    private final ApproximateCountCache approximateCountCache;
 
     @Transactional(readOnly = true)
     public AdminStatsDto getDashboardStats() {
-        // Count users by role (exclude ADMIN)
-        long totalUsers = userRepository.countByRole(com.example.app.auth.domain.Role.USER);
-        long totalWorkers = userRepository.countByRole(com.example.app.auth.domain.Role.WORKER);
-        
-        long totalOrders = orderRepository.count();
-        long totalServices = serviceRepository.count();
-        
-        long pendingOrders = orderRepository.countByStatus(Order.OrderStatus.PENDING);
-        long inProgressOrders = orderRepository.countByStatus(Order.OrderStatus.IN_PROGRESS);
-        long completedOrders = orderRepository.countByStatus(Order.OrderStatus.COMPLETED);
-        long cancelledOrders = orderRepository.countByStatus(Order.OrderStatus.CANCELLED);
-
-        return AdminStatsDto.builder()
-                .totalUsers(totalUsers)
-                .totalOrders(totalOrders)
-                .totalWorkers(totalWorkers)
-                .totalServices(totalServices)
-                .pendingOrders(pendingOrders)
-                .inProgressOrders(inProgressOrders)
-                .completedOrders(completedOrders)
-                .cancelledOrders(cancelledOrders)
-                .build();
+        return adminStatsService.getDashboardStats();
+    }
+
+    @Transactional
+    public AdminStatsDto rebuildDashboardStats() {
+        return adminStatsService.rebuildCounters();
     }
 
     @Transactional(readOnly = true)
@@ -57,6 +75,14 @@ public class AdminService {
                 .map(this::mapToUserManagementDto);
     }
 
+    @Transactional(readOnly = true)
+    public PageUtil.CursorPageResponse<UserManagementDto> getUsersByCursor(String cursor, int size) {
+        PageUtil.Cursor position = PageUtil.Cursor.decode(cursor);
+        List<User> users = userRepository.findAfterCursor(position.getCreatedAt(), position.getId(), PageUtil.cursorLimit(size));
+        return PageUtil.toCursorPageResponse(users, size, User::getCreatedAt, User::getId,
+                page -> page.stream().map(this::mapToUserManagementDto).collect(Collectors.toList()));
+    }
+
     @Transactional(readOnly = true)
     public UserManagementDto getUserById(Long id) {
         User user = userRepository.findById(id)
@@ -69,7 +95,11 @@ public class AdminService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         user.setAccountNonLocked(false);
+        user.setAccountVersion(user.getAccountVersion() + 1);
         user = userRepository.save(user);
+        // Every refresh-token family of the user, so no session can be refreshed after the block
+        refreshTokenRepository.deleteByUserId(user.getId());
+        revokeIssuedTokens(user);
         return mapToUserManagementDto(user);
     }
 
@@ -78,38 +108,51 @@ public class AdminService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         user.setAccountNonLocked(true);
+        user.setAccountVersion(user.getAccountVersion() + 1);
         user = userRepository.save(user);
+        revokeIssuedTokens(user);
         return mapToUserManagementDto(user);
     }
 
     @Transactional(readOnly = true)
     public Page<OrderManagementDto> getAllOrders(Pageable pageable) {
-        return orderRepository.findAll(pageable)
-                .map(this::mapToOrderManagementDto);
+        Page<Order> orders = orderRepository.findAll(pageable);
+        return new PageImpl<>(mapToOrderManagementDtos(orders.getContent()), pageable, orders.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public PageUtil.CursorPageResponse<OrderManagementDto> getOrdersByCursor(String cursor, int size) {
+        PageUtil.Cursor position = PageUtil.Cursor.decode(cursor);
+        List<Order> orders = orderRepository.findAfterCursor(position.getCreatedAt(), position.getId(), PageUtil.cursorLimit(size));
+        return PageUtil.toCursorPageResponse(orders, size, Order::getCreatedAt, Order::getId, this::mapToOrderManagementDtos);
     }
 
     @Transactional(readOnly = true)
     public OrderManagementDto getOrderById(Long id) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
-        return mapToOrderManagementDto(order);
+        return mapToOrderManagementDtos(List.of(order)).get(0);
     }
 
     @Transactional
     public OrderManagementDto updateOrderStatus(Long id, Order.OrderStatus newStatus) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
+        adminStatsService.orderStatusChanged(order.getStatus(), newStatus);
         order.setStatus(newStatus);
         order = orderRepository.save(order);
-        return mapToOrderManagementDto(order);
+        workerBookingIndex.onOrderSaved(order);
+        return mapToOrderManagementDtos(List.of(order)).get(0);
     }
 
     @Transactional
     public void deleteOrder(Long id) {
-        if (!orderRepository.existsById(id)) {
-            throw new RuntimeException("Order not found");
-        }
-        orderRepository.deleteById(id);
+        Order order = orderRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Order not found"));
+        orderRepository.delete(order);
+        adminStatsService.orderDeleted(order.getStatus());
+        workerBookingIndex.onOrderDeleted(order.getId());
+        approximateCountCache.increment(OrderService.ORDERS_BY_USER_COUNT, order.getUserId(), -1);
     }
 
     @Transactional
@@ -131,7 +174,10 @@ public class AdminService {
         order.setNotes(notes);
         
         order = orderRepository.save(order);
-        return mapToOrderManagementDto(order);
+        adminStatsService.orderCreated(order.getStatus());
+        approximateCountCache.increment(OrderService.ORDERS_BY_USER_COUNT, userId, 1);
+        // User and service are already loaded, so seed the lookup maps instead of querying again
+        return mapToOrderManagementDto(order, Map.of(user.getId(), user), Map.of(service.getId(), service));
     }
 
     @Transactional
@@ -144,6 +190,8 @@ public class AdminService {
         service.setActive(active != null ? active : true);
         
         serviceRepository.save(service);
+        adminStatsService.servicesChanged(1);
+        serviceApplicationService.catalogChanged();
     }
 
     @Transactional
@@ -160,6 +208,7 @@ public class AdminService {
         }
         
         serviceRepository.save(service);
+        serviceApplicationService.catalogChanged();
     }
 
     @Transactional
@@ -168,6 +217,8 @@ public class AdminService {
             throw new RuntimeException("Service not found");
         }
         serviceRepository.deleteById(id);
+        adminStatsService.servicesChanged(-1);
+        serviceApplicationService.catalogChanged();
     }
 
     @Transactional
@@ -176,6 +227,14 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("Service not found"));
         service.setActive(!service.getActive());
         serviceRepository.save(service);
+        serviceApplicationService.catalogChanged();
+    }
+
+    private void revokeIssuedTokens(User user) {
+        String userId = user.getId().toString();
+        tokenRevocationList.revokeBefore(userId, user.getAccountVersion());
+        // Evicting before commit would let a concurrent request re-cache the old row for the full TTL
+        AfterCommit.run(() -> authenticationCache.evictUser(userId));
     }
 
     private UserManagementDto mapToUserManagementDto(User user) {
@@ -195,10 +254,33 @@ public class AdminService {
                 .build();
     }
 
-    private OrderManagementDto mapToOrderManagementDto(Order order) {
-        // Fetch user and service info
-        User user = userRepository.findById(order.getUserId()).orElse(null);
-        com.example.app.services.domain.Service service = serviceRepository.findById(order.getServiceId()).orElse(null);
+    /**
+     * Map a batch of orders, loading the referenced users and services with one IN query each
+     * instead of two lookups per order.
+     */
+    private List<OrderManagementDto> mapToOrderManagementDtos(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> userIds = orders.stream().map(Order::getUserId).collect(Collectors.toSet());
+        Set<Long> serviceIds = orders.stream().map(Order::getServiceId).collect(Collectors.toSet());
+
+        Map<Long, User> usersById = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, com.example.app.services.domain.Service> servicesById = serviceRepository.findAllById(serviceIds).stream()
+                .collect(Collectors.toMap(com.example.app.services.domain.Service::getId, Function.identity()));
+
+        return orders.stream()
+                .map(order -> mapToOrderManagementDto(order, usersById, servicesById))
+                .collect(Collectors.toList());
+    }
+
+    private OrderManagementDto mapToOrderManagementDto(Order order,
+                                                       Map<Long, User> usersById,
+                                                       Map<Long, com.example.app.services.domain.Service> servicesById) {
+        User user = usersById.get(order.getUserId());
+        com.example.app.services.domain.Service service = servicesById.get(order.getServiceId());
 
         return OrderManagementDto.builder()
                 .id(order.getId())
@@ -0,0 +1,52 @@
+package com.example.app.admin.application;
+
+import com.example.app.auth.domain.Role;
+import com.example.app.orders.domain.Order;
+
+/**
+ * Public Application Service Interface for admin dashboard statistics
+ *
+ * <p>Modules that write orders, users or services report those writes here so the
+ * dashboard counters can be maintained in the same transaction as the write.
+ * All methods are no-ops unless {@code app.admin.stats-counters.enabled=true}.
+ *
+ * <p><b>Module Boundary:</b> This is the public contract for cross-module communication.
+ */
+public interface AdminStatsApplicationService {
+
+    /**
+     * Record a newly created order
+     *
+     * @param status the initial order status
+     */
+    void orderCreated(Order.OrderStatus status);
+
+    /**
+     * Record an order status transition
+     *
+     * @param from the previous status
+     * @param to the new status
+     */
+    void orderStatusChanged(Order.OrderStatus from, Order.OrderStatus to);
+
+    /**
+     * Record a deleted order
+     *
+     * @param status the status the order had when deleted
+     */
+    void orderDeleted(Order.OrderStatus status);
+
+    /**
+     * Record a newly created user
+     *
+     * @param role the user's role
+     */
+    void userCreated(Role role);
+
+    /**
+     * Record a change in the number of services
+     *
+     * @param delta +1 for a created service, -1 for a deleted one
+     */
+    void servicesChanged(int delta);
+}
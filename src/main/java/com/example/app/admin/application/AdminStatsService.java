@@ -0,0 +1,137 @@
+package com.example.app.admin.application;
+
+import com.example.app.admin.domain.AdminStatsCounter;
+import com.example.app.admin.dto.AdminStatsDto;
+import com.example.app.admin.repository.AdminStatsCounterRepository;
+import com.example.app.auth.domain.Role;
+import com.example.app.auth.repository.UserRepository;
+import com.example.app.orders.domain.Order;
+import com.example.app.orders.repository.OrderRepository;
+import com.example.app.services.repository.ServiceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dashboard statistics, either aggregated on the fly (two GROUP BY queries plus a service count)
+ * or read from the incrementally maintained {@code admin_stats_counters} table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminStatsService implements AdminStatsApplicationService {
+
+    private static final String USERS_PREFIX = "users.";
+    private static final String ORDERS_PREFIX = "orders.";
+    private static final String SERVICES_KEY = "services";
+
+    private final AdminStatsCounterRepository counterRepository;
+    private final UserRepository userRepository;
+    private final OrderRepository orderRepository;
+    private final ServiceRepository serviceRepository;
+
+    @Value("${app.admin.stats-counters.enabled:false}")
+    private boolean countersEnabled;
+
+    @Transactional(readOnly = true)
+    public AdminStatsDto getDashboardStats() {
+        return countersEnabled ? toStatsDto(readCounters()) : toStatsDto(aggregate());
+    }
+
+    /**
+     * Recompute every counter from the source tables, e.g. after counters drifted
+     * or after the feature was switched on.
+     */
+    @Transactional
+    public AdminStatsDto rebuildCounters() {
+        Map<String, Long> counters = aggregate();
+        List<AdminStatsCounter> rows = new ArrayList<>();
+        counters.forEach((key, value) -> rows.add(AdminStatsCounter.builder().key(key).value(value).build()));
+        counterRepository.deleteAllInBatch();
+        counterRepository.saveAll(rows);
+        log.info("Rebuilt {} admin stats counters", rows.size());
+        return toStatsDto(counters);
+    }
+
+    @Override
+    @Transactional
+    public void orderCreated(Order.OrderStatus status) {
+        increment(ORDERS_PREFIX + status.name(), 1);
+    }
+
+    @Override
+    @Transactional
+    public void orderStatusChanged(Order.OrderStatus from, Order.OrderStatus to) {
+        if (from != to) {
+            increment(ORDERS_PREFIX + from.name(), -1);
+            increment(ORDERS_PREFIX + to.name(), 1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void orderDeleted(Order.OrderStatus status) {
+        increment(ORDERS_PREFIX + status.name(), -1);
+    }
+
+    @Override
+    @Transactional
+    public void userCreated(Role role) {
+        increment(USERS_PREFIX + role.name(), 1);
+    }
+
+    @Override
+    @Transactional
+    public void servicesChanged(int delta) {
+        increment(SERVICES_KEY, delta);
+    }
+
+    private void increment(String key, long delta) {
+        if (countersEnabled) {
+            counterRepository.increment(key, delta);
+        }
+    }
+
+    private Map<String, Long> readCounters() {
+        Map<String, Long> counters = new HashMap<>();
+        counterRepository.findAll().forEach(counter -> counters.put(counter.getKey(), counter.getValue()));
+        return counters;
+    }
+
+    private Map<String, Long> aggregate() {
+        Map<String, Long> counters = new HashMap<>();
+        userRepository.countGroupByRole().stream()
+                .filter(row -> row.getRole() != null)
+                .forEach(row -> counters.put(USERS_PREFIX + row.getRole().name(), row.getTotal()));
+        orderRepository.countGroupByStatus()
+                .forEach(row -> counters.put(ORDERS_PREFIX + row.getStatus().name(), row.getTotal()));
+        counters.put(SERVICES_KEY, serviceRepository.count());
+        return counters;
+    }
+
+    private AdminStatsDto toStatsDto(Map<String, Long> counters) {
+        long totalOrders = 0;
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            totalOrders += counters.getOrDefault(ORDERS_PREFIX + status.name(), 0L);
+        }
+
+        // Count users by role (exclude ADMIN)
+        return AdminStatsDto.builder()
+                .totalUsers(counters.getOrDefault(USERS_PREFIX + Role.USER.name(), 0L))
+                .totalOrders(totalOrders)
+                .totalWorkers(counters.getOrDefault(USERS_PREFIX + Role.WORKER.name(), 0L))
+                .totalServices(counters.getOrDefault(SERVICES_KEY, 0L))
+                .pendingOrders(counters.getOrDefault(ORDERS_PREFIX + Order.OrderStatus.PENDING.name(), 0L))
+                .inProgressOrders(counters.getOrDefault(ORDERS_PREFIX + Order.OrderStatus.IN_PROGRESS.name(), 0L))
+                .completedOrders(counters.getOrDefault(ORDERS_PREFIX + Order.OrderStatus.COMPLETED.name(), 0L))
+                .cancelledOrders(counters.getOrDefault(ORDERS_PREFIX + Order.OrderStatus.CANCELLED.name(), 0L))
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.app.admin.config;
+
+import com.example.app.admin.application.AdminStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the dashboard counters at startup, since they are not maintained while the feature is off.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.admin.stats-counters.enabled", havingValue = "true")
+public class AdminStatsCounterInitializer implements CommandLineRunner {
+
+    private final AdminStatsService adminStatsService;
+
+    @Override
+    public void run(String... args) {
+        adminStatsService.rebuildCounters();
+    }
+}
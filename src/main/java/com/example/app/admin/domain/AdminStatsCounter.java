@@ -0,0 +1,26 @@
+package com.example.app.admin.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "admin_stats_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminStatsCounter {
+
+    @Id
+    @Column(name = "counter_key", length = 64)
+    private String key;
+
+    @Column(name = "counter_value", nullable = false)
+    private Long value;
+}
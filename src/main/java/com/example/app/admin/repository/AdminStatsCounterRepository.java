@@ -0,0 +1,18 @@
+package com.example.app.admin.repository;
+
+import com.example.app.admin.domain.AdminStatsCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AdminStatsCounterRepository extends JpaRepository<AdminStatsCounter, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO admin_stats_counters (counter_key, counter_value) VALUES (:key, :delta) " +
+           "ON DUPLICATE KEY UPDATE counter_value = counter_value + :delta",
+           nativeQuery = true)
+    void increment(@Param("key") String key, @Param("delta") long delta);
+}
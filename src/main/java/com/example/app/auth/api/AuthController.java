@@ -1,6 +1,8 @@
 package com.example.app.auth.api;
 
 import com.example.app.auth.application.AuthService;
+import com.example.app.auth.application.LoginAttemptGuard;
+import com.example.app.auth.application.RefreshTokenRotationService;
 import com.example.app.auth.dto.*;
 import com.example.app.shared.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,6 +11,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseCookie;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +23,8 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final RefreshTokenRotationService refreshTokenRotationService;
+    private final LoginAttemptGuard loginAttemptGuard;
 
     @PostMapping("/register")
     @Operation(summary = "Register a new user")
@@ -52,8 +57,9 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "Login user")
-    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request, HttpServletResponse httpResponse) {
-        AuthResponse response = authService.login(request);
+    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                           HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        AuthResponse response = loginAttemptGuard.login(request, httpRequest.getRemoteAddr());
         if (response.getAccessToken() != null) {
             ResponseCookie accessCookie = ResponseCookie.from("accessToken", response.getAccessToken())
                     .path("/")
@@ -80,7 +86,7 @@ public class AuthController {
     @PostMapping("/refresh")
     @Operation(summary = "Refresh access token")
     public ResponseEntity<ApiResponse<AuthResponse>> refreshToken(@Valid @RequestBody RefreshTokenRequest request, HttpServletResponse httpResponse) {
-        AuthResponse response = authService.refreshToken(request);
+        AuthResponse response = refreshTokenRotationService.refresh(request);
         if (response.getAccessToken() != null) {
             ResponseCookie accessCookie = ResponseCookie.from("accessToken", response.getAccessToken())
                     .path("/")
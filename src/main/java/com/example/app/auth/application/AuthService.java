@@ -1,5 +1,6 @@
 package com.example.app.auth.application;
 
+import com.example.app.admin.application.AdminStatsApplicationService;
 import com.example.app.auth.domain.RefreshToken;
 import com.example.app.auth.domain.User;
 import com.example.app.auth.dto.*;
@@ -9,14 +10,18 @@ import com.example.app.auth.repository.UserRepository;
 import com.example.app.shared.exception.BadRequestException;
 import com.example.app.shared.exception.UnauthorizedException;
 import com.example.app.shared.security.JwtTokenProvider;
+import com.example.app.workers.application.WorkerApplicationService;
+import com.example.app.shared.security.VerifiedToken;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Date;
+import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService implements AuthApplicationService {
@@ -26,6 +31,10 @@ public class AuthService implements AuthApplicationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
     private final UserMapper userMapper;
+    private final AdminStatsApplicationService adminStatsApplicationService;
+    private final WorkerApplicationService workerApplicationService;
+    private final RefreshTokenWriteBehind refreshTokenWriteBehind;
+    private final UnknownUsernames unknownUsernames;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -50,61 +59,58 @@ public class AuthService implements AuthApplicationService {
         user.setCredentialsNonExpired(true);
 
         user = userRepository.save(user);
+        adminStatsApplicationService.userCreated(user.getRole());
+        workerApplicationService.userSaved(user);
+        unknownUsernames.remove(user.getUsername());
 
-        String accessToken = tokenProvider.generateAccessToken(user.getId().toString());
-        String refreshToken = tokenProvider.generateRefreshToken(user.getId().toString());
-        
-        // Save refresh token
-        saveRefreshToken(user.getId(), refreshToken);
+        String refreshToken = issueRefreshToken(user.getId(), UUID.randomUUID());
 
-        return AuthResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .tokenType("Bearer")
-                .expiresIn(3600L) // 1 hour in seconds
-                .user(userMapper.toDto(user))
-                .build();
+        return authResponse(user, refreshToken);
     }
 
     @Transactional
     public AuthResponse login(LoginRequest request) {
         // Only support username + password login
-        User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
+        User user = userRepository.findByUsername(request.getUsername()).orElse(null);
+        if (user == null) {
+            unknownUsernames.add(request.getUsername());
+            throw new UnauthorizedException("Invalid credentials");
+        }
 
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             throw new UnauthorizedException("Invalid credentials");
         }
 
-        if (!user.getEnabled()) {
-            throw new UnauthorizedException("Account is disabled");
+        requireActive(user);
+
+        // The plain password is only available here, so move stale hashes to the current profile now
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(request.getPassword()));
         }
 
-        String accessToken = tokenProvider.generateAccessToken(user.getId().toString());
-        String refreshToken = tokenProvider.generateRefreshToken(user.getId().toString());
-        
-        // Save refresh token
-        saveRefreshToken(user.getId(), refreshToken);
+        String refreshToken = issueRefreshToken(user.getId(), UUID.randomUUID());
 
-        return AuthResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .tokenType("Bearer")
-                .expiresIn(3600L) // 1 hour in seconds
-                .user(userMapper.toDto(user))
-                .build();
+        return authResponse(user, refreshToken);
     }
 
-    @Transactional
+    // Deletions made before rejecting the token (expired row, replayed family) must still commit
+    @Transactional(noRollbackFor = UnauthorizedException.class)
     public AuthResponse refreshToken(RefreshTokenRequest request) {
-        // Validate token format
-        if (!tokenProvider.validateToken(request.getRefreshToken())) {
-            throw new UnauthorizedException("Invalid refresh token");
-        }
+        // Validate token signature and expiry (parsed once)
+        VerifiedToken verified = tokenProvider.verify(request.getRefreshToken())
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
 
         // Check if token exists in database
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(request.getRefreshToken())
-                .orElseThrow(() -> new UnauthorizedException("Refresh token not found"));
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(RefreshToken.hash(request.getRefreshToken()))
+                .orElse(null);
+        if (refreshToken == null) {
+            // A validly signed token that is no longer stored was already rotated or logged out:
+            // treat it as stolen and revoke every token of its family
+            if (verified.getFamilyId() != null) {
+                revokeFamily(UUID.fromString(verified.getFamilyId()), verified.getUserId());
+            }
+            throw new UnauthorizedException("Refresh token not found");
+        }
 
         // Check if token is expired
         if (refreshToken.getExpiresAt().isBefore(LocalDateTime.now())) {
@@ -115,48 +121,68 @@ public class AuthService implements AuthApplicationService {
         User user = userRepository.findById(refreshToken.getUserId())
                 .orElseThrow(() -> new UnauthorizedException("User not found"));
 
-        if (!user.getEnabled()) {
-            throw new UnauthorizedException("Account is disabled");
-        }
+        requireActive(user);
 
         // Delete old refresh token
         refreshTokenRepository.delete(refreshToken);
 
-        // Generate new tokens
-        String accessToken = tokenProvider.generateAccessToken(user.getId().toString());
-        String newRefreshToken = tokenProvider.generateRefreshToken(user.getId().toString());
-        
-        // Save new refresh token
-        saveRefreshToken(user.getId(), newRefreshToken);
+        // Generate new tokens, the refresh token stays in the same family
+        String newRefreshToken = issueRefreshToken(user.getId(), refreshToken.getFamilyId());
+
+        return authResponse(user, newRefreshToken);
+    }
+    
+    /**
+     * Revoke every refresh token of a family after one of its rotated tokens was presented again.
+     */
+    @Transactional
+    public void revokeFamily(UUID familyId, String userId) {
+        int revoked = refreshTokenRepository.deleteByFamilyId(familyId);
+        log.warn("Reused refresh token for user {}, revoked {} tokens of its family", userId, revoked);
+    }
+
+    /**
+     * Reject disabled and blocked accounts; blocking bumps the account version, so a refresh must
+     * not be allowed to mint an access token carrying the new one.
+     */
+    void requireActive(User user) {
+        if (!user.getEnabled()) {
+            throw new UnauthorizedException("Account is disabled");
+        }
+        if (!user.getAccountNonLocked()) {
+            throw new UnauthorizedException("Account is locked");
+        }
+    }
 
+    /**
+     * Build the login/refresh response: a fresh access token plus the given refresh token.
+     */
+    public AuthResponse authResponse(User user, String refreshToken) {
         return AuthResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(newRefreshToken)
+                .accessToken(generateAccessToken(user))
+                .refreshToken(refreshToken)
                 .tokenType("Bearer")
                 .expiresIn(3600L) // 1 hour in seconds
                 .user(userMapper.toDto(user))
                 .build();
     }
-    
+
     @Transactional
     public void logout(String refreshToken) {
-        refreshTokenRepository.findByToken(refreshToken)
-                .ifPresent(refreshTokenRepository::delete);
+        refreshTokenRepository.deleteByTokenHash(RefreshToken.hash(refreshToken));
     }
     
-    private void saveRefreshToken(Long userId, String token) {
-        Date expirationDate = tokenProvider.getExpirationDateFromToken(token);
-        LocalDateTime expiresAt = expirationDate.toInstant()
-                .atZone(java.time.ZoneId.systemDefault())
-                .toLocalDateTime();
-        
-        RefreshToken refreshToken = RefreshToken.builder()
-                .userId(userId)
-                .token(token)
-                .expiresAt(expiresAt)
-                .build();
-        
+    private String generateAccessToken(User user) {
+        return tokenProvider.generateAccessToken(
+                user.getId().toString(), user.getRole().getAuthority(), user.getAccountVersion());
+    }
+
+    private String issueRefreshToken(Long userId, UUID familyId) {
+        String token = tokenProvider.generateRefreshToken(userId.toString(), familyId.toString());
+        RefreshToken refreshToken = RefreshToken.issued(userId, familyId, token, tokenProvider.getExpirationDateFromToken(token));
         refreshTokenRepository.save(refreshToken);
+        refreshTokenWriteBehind.remember(refreshToken);
+        return token;
     }
 
     // Social login placeholders
@@ -0,0 +1,143 @@
+package com.example.app.auth.application;
+
+import com.example.app.auth.dto.AuthResponse;
+import com.example.app.auth.dto.LoginRequest;
+import com.example.app.shared.exception.TooManyRequestsException;
+import com.example.app.shared.exception.UnauthorizedException;
+import com.example.app.shared.security.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entry point for {@code /api/auth/login}, run before any query or password hash.
+ *
+ * <p>Every attempt takes a token from the bucket of its client IP and of its username; an empty
+ * bucket answers 429 with Retry-After. Usernames in {@link UnknownUsernames} are refused without
+ * a lookup or a hash. Those refusals, and the first miss of each username, are delayed to the
+ * running average of real attempts, so response time does not tell which usernames exist. The
+ * delay is a sleep outside the transaction: it costs neither CPU nor a database connection.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoginAttemptGuard {
+
+    private final AuthService authService;
+    private final UnknownUsernames unknownUsernames;
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.auth.login-rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.auth.login-rate-limit.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${app.auth.login-rate-limit.ip.refill-per-minute:20}")
+    private double ipRefillPerMinute;
+
+    @Value("${app.auth.login-rate-limit.username.capacity:5}")
+    private int usernameCapacity;
+
+    @Value("${app.auth.login-rate-limit.username.refill-per-minute:5}")
+    private double usernameRefillPerMinute;
+
+    @Value("${app.auth.login-rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    private TokenBucketRateLimiter ipLimiter;
+    private TokenBucketRateLimiter usernameLimiter;
+    private Counter unknownRefused;
+
+    // Running average of a real attempt (lookup + password check), 0 until measured
+    private final AtomicLong typicalAttemptNanos = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        ipLimiter = new TokenBucketRateLimiter("login-ip", ipCapacity, ipRefillPerMinute, maxKeys, meterRegistry);
+        usernameLimiter = new TokenBucketRateLimiter("login-username", usernameCapacity, usernameRefillPerMinute,
+                maxKeys, meterRegistry);
+        unknownRefused = Counter.builder("app.auth.login.unknown-username")
+                .description("Logins for recently missed usernames refused without a lookup or hash")
+                .register(meterRegistry);
+    }
+
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        String username = request.getUsername();
+        if (enabled) {
+            acquire(ipLimiter, clientIp);
+            // Same key as the username column compares, so "Admin" and "admin " share a bucket
+            acquire(usernameLimiter, UnknownUsernames.key(username));
+        }
+
+        if (unknownUsernames.contains(username)) {
+            unknownRefused.increment();
+            delayLikeRealAttempt(0);
+            throw new UnauthorizedException("Invalid credentials");
+        }
+
+        long start = System.nanoTime();
+        try {
+            AuthResponse response = authService.login(request);
+            recordAttempt(System.nanoTime() - start);
+            return response;
+        } catch (UnauthorizedException e) {
+            long elapsed = System.nanoTime() - start;
+            if (unknownUsernames.contains(username)) {
+                // Missed without a password check
+                delayLikeRealAttempt(elapsed);
+            } else {
+                recordAttempt(elapsed);
+            }
+            throw e;
+        }
+    }
+
+    private static void acquire(TokenBucketRateLimiter limiter, String key) {
+        long waitNanos = limiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new TooManyRequestsException("Too many login attempts, try again later", retryAfter);
+        }
+    }
+
+    private void recordAttempt(long nanos) {
+        long current;
+        long next;
+        do {
+            current = typicalAttemptNanos.get();
+            next = current == 0 ? nanos : current + (nanos - current) / 8;
+        } while (!typicalAttemptNanos.compareAndSet(current, next));
+    }
+
+    private void delayLikeRealAttempt(long elapsedNanos) {
+        long typical = typicalAttemptNanos.get();
+        if (typical == 0) {
+            // No real attempt yet: time one password check against a throwaway hash
+            long start = System.nanoTime();
+            passwordEncoder.matches(UUID.randomUUID().toString(), passwordEncoder.encode(UUID.randomUUID().toString()));
+            typicalAttemptNanos.compareAndSet(0, (System.nanoTime() - start) / 2);
+            return;
+        }
+        // +/- 10% so the delay does not stand out as a constant
+        long target = typical + ThreadLocalRandom.current().nextLong(-typical / 10, typical / 10 + 1);
+        long remaining = target - elapsedNanos;
+        if (remaining <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.app.auth.application;
+
+import com.example.app.auth.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes expired refresh tokens in small batches, each in its own short transaction, so the
+ * purge never holds locks on a large range of auth_refresh_tokens while logins insert into it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.auth.refresh-token-purge.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPurger {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.auth.refresh-token-purge.batch-size:500}")
+    private int batchSize;
+
+    // Pause between batches, leaves room for concurrent writers and replication
+    @Value("${app.auth.refresh-token-purge.batch-pause-ms:50}")
+    private long batchPauseMs;
+
+    @Scheduled(initialDelayString = "${app.auth.refresh-token-purge.initial-delay-ms:60000}",
+            fixedDelayString = "${app.auth.refresh-token-purge.interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+        int deleted;
+        do {
+            Integer batch = transactionTemplate.execute(status -> refreshTokenRepository.deleteExpiredBatch(now, batchSize));
+            deleted = batch != null ? batch : 0;
+            total += deleted;
+            if (deleted == batchSize && !pause()) {
+                break;
+            }
+        } while (deleted == batchSize);
+        if (total > 0) {
+            log.info("Purged {} expired refresh tokens", total);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.app.auth.application;
+
+import com.example.app.auth.domain.RefreshToken;
+import com.example.app.auth.domain.User;
+import com.example.app.auth.dto.AuthResponse;
+import com.example.app.auth.dto.RefreshTokenRequest;
+import com.example.app.auth.repository.UserRepository;
+import com.example.app.shared.exception.UnauthorizedException;
+import com.example.app.shared.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Entry point for {@code /api/auth/refresh}.
+ *
+ * <p>With write-behind rotation enabled, tokens this instance issued are validated from memory and
+ * rotated through {@link RefreshTokenWriteBehind} without holding a transaction per request;
+ * everything else (tokens from another instance or from before a restart) takes the
+ * transactional {@link AuthService#refreshToken} path.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenRotationService {
+
+    private final AuthService authService;
+    private final RefreshTokenWriteBehind writeBehind;
+    private final JwtTokenProvider tokenProvider;
+    private final UserRepository userRepository;
+
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        if (!writeBehind.isEnabled()) {
+            return authService.refreshToken(request);
+        }
+        tokenProvider.verify(request.getRefreshToken())
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        byte[] oldHash = RefreshToken.hash(request.getRefreshToken());
+        RefreshTokenWriteBehind.IssuedToken issued = writeBehind.lookup(oldHash);
+        if (issued == null) {
+            return authService.refreshToken(request);
+        }
+
+        User user = userRepository.findById(issued.getUserId())
+                .orElseThrow(() -> new UnauthorizedException("User not found"));
+        authService.requireActive(user);
+
+        String token = tokenProvider.generateRefreshToken(user.getId().toString(), issued.getFamilyId().toString());
+        RefreshToken replacement = RefreshToken.issued(user.getId(), issued.getFamilyId(), token,
+                tokenProvider.getExpirationDateFromToken(token));
+        if (!writeBehind.rotate(oldHash, replacement)) {
+            // Rotated or logged out in the meantime, possibly on another instance
+            authService.revokeFamily(issued.getFamilyId(), user.getId().toString());
+            throw new UnauthorizedException("Refresh token not found");
+        }
+        return authService.authResponse(user, token);
+    }
+}
@@ -0,0 +1,318 @@
+package com.example.app.auth.application;
+
+import com.example.app.auth.domain.RefreshToken;
+import com.example.app.shared.exception.TooManyRequestsException;
+import com.example.app.shared.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Group commit for refresh-token rotation.
+ *
+ * <p>Tokens issued by this instance are remembered in memory, so a rotation can be validated
+ * without reading auth_refresh_tokens. Rotations are queued and a single flusher thread writes
+ * everything queued within {@code flush-interval-ms} in one transaction of three statements:
+ * lock the old rows ({@code SELECT ... FOR UPDATE}), delete them, and insert the replacements of
+ * the rotations whose old row still existed.
+ *
+ * <p>The caller waits for its batch to commit before returning the new token. A rotation only
+ * succeeds if its old row was still there at that point. Rows are locked in the database, so this
+ * holds across instances: a token rotated anywhere can never be rotated again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenWriteBehind {
+
+    private static final int PENDING = 0;
+    private static final int CLAIMED = 1;
+    private static final int CANCELLED = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.auth.refresh-rotation.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.auth.refresh-rotation.write-behind.flush-interval-ms:5}")
+    private long flushIntervalMs;
+
+    @Value("${app.auth.refresh-rotation.write-behind.max-batch:200}")
+    private int maxBatch;
+
+    @Value("${app.auth.refresh-rotation.write-behind.max-recent:100000}")
+    private int maxRecent;
+
+    @Value("${app.auth.refresh-rotation.write-behind.timeout-ms:2000}")
+    private long timeoutMs;
+
+    private final Map<ByteBuffer, IssuedToken> recent = new ConcurrentHashMap<>();
+    private final BlockingQueue<Rotation> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread flusher;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "refresh-token-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+        // Anything still queued fails, the client retries against the classic path
+        List<Rotation> left = new ArrayList<>();
+        queue.drainTo(left);
+        left.forEach(rotation -> rotation.result.completeExceptionally(new IllegalStateException("Shutting down")));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Remember a newly stored token once the surrounding transaction commits.
+     */
+    public void remember(RefreshToken token) {
+        if (!enabled) {
+            return;
+        }
+        IssuedToken issued = new IssuedToken(token.getUserId(), token.getFamilyId(), token.getExpiresAt());
+        ByteBuffer key = ByteBuffer.wrap(token.getTokenHash());
+        AfterCommit.run(() -> put(key, issued));
+    }
+
+    /**
+     * @return the token if this instance issued it and it has not been rotated here, otherwise null
+     */
+    public IssuedToken lookup(byte[] tokenHash) {
+        ByteBuffer key = ByteBuffer.wrap(tokenHash);
+        IssuedToken issued = recent.get(key);
+        if (issued != null && issued.expiresAt.isBefore(LocalDateTime.now())) {
+            recent.remove(key);
+            return null;
+        }
+        return issued;
+    }
+
+    /**
+     * Replace {@code oldHash} with {@code replacement} in the next batch and wait for it to commit.
+     *
+     * <p>Only the wait for a batch to pick the rotation up is bounded by {@code timeout-ms}: a
+     * rotation still queued by then is cancelled and never written, so the client can retry with
+     * its old token. Once a batch has claimed it, the caller waits for that transaction to end,
+     * like the transactional path does, so a committed rotation always reaches its caller.
+     *
+     * @return true if the old token was still stored and is now replaced, false if it was already
+     *         rotated or revoked
+     * @throws TooManyRequestsException if the rotation was cancelled or its batch failed; the old
+     *         token is still valid
+     */
+    public boolean rotate(byte[] oldHash, RefreshToken replacement) {
+        ByteBuffer oldKey = ByteBuffer.wrap(oldHash);
+        IssuedToken issued = recent.remove(oldKey);
+        Rotation rotation = new Rotation(oldHash, replacement, new CompletableFuture<>());
+        queue.add(rotation);
+        Boolean rotated = await(rotation);
+        if (rotated == null) {
+            // Nothing was written: the old token is still stored and may be rotated again
+            if (issued != null) {
+                recent.putIfAbsent(oldKey, issued);
+            }
+            throw new TooManyRequestsException("Token refresh is busy, please retry", 1);
+        }
+        if (rotated) {
+            put(ByteBuffer.wrap(replacement.getTokenHash()),
+                    new IssuedToken(replacement.getUserId(), replacement.getFamilyId(), replacement.getExpiresAt()));
+        }
+        return rotated;
+    }
+
+    /**
+     * @return the batch outcome, or null if the rotation was cancelled while queued or its batch failed
+     */
+    private Boolean await(Rotation rotation) {
+        try {
+            return rotation.result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            log.warn("Refresh token rotation not picked up within {} ms", timeoutMs);
+        }
+        if (rotation.state.compareAndSet(PENDING, CANCELLED)) {
+            return null;
+        }
+        // Claimed by a batch already: wait for it regardless, its outcome must not be lost
+        try {
+            return rotation.result.join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    private void put(ByteBuffer key, IssuedToken issued) {
+        if (recent.size() >= maxRecent) {
+            LocalDateTime now = LocalDateTime.now();
+            recent.values().removeIf(entry -> entry.expiresAt.isBefore(now));
+            if (recent.size() >= maxRecent) {
+                // Full of live tokens; this one is validated against the database instead
+                return;
+            }
+        }
+        recent.put(key, issued);
+    }
+
+    private void flushLoop() {
+        List<Rotation> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                Rotation first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < maxBatch) {
+                    Rotation next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Rotation> batch) {
+        // Skip rotations whose caller gave up while they were queued
+        batch.removeIf(rotation -> !rotation.state.compareAndSet(PENDING, CLAIMED));
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            Set<ByteBuffer> won = transactionTemplate.execute(status -> write(batch));
+            for (Rotation rotation : batch) {
+                rotation.result.complete(rotation.winner && won.contains(ByteBuffer.wrap(rotation.oldHash)));
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to flush {} refresh token rotations", batch.size(), e);
+            batch.forEach(rotation -> rotation.result.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * @return the old hashes that were still stored and are now replaced
+     */
+    private Set<ByteBuffer> write(List<Rotation> batch) {
+        // Only the first rotation of a token within a batch can win
+        Map<ByteBuffer, Rotation> byOldHash = new LinkedHashMap<>();
+        for (Rotation rotation : batch) {
+            rotation.winner = byOldHash.putIfAbsent(ByteBuffer.wrap(rotation.oldHash), rotation) == null;
+        }
+        List<byte[]> oldHashes = new ArrayList<>();
+        byOldHash.keySet().forEach(key -> oldHashes.add(key.array()));
+        String placeholders = String.join(",", Collections.nCopies(oldHashes.size(), "?"));
+
+        Set<ByteBuffer> stored = new HashSet<>();
+        jdbcTemplate.query("SELECT token_hash FROM auth_refresh_tokens WHERE token_hash IN (" + placeholders + ") FOR UPDATE",
+                rs -> {
+                    stored.add(ByteBuffer.wrap(rs.getBytes(1)));
+                }, oldHashes.toArray());
+        if (stored.isEmpty()) {
+            return stored;
+        }
+        List<byte[]> storedHashes = new ArrayList<>();
+        stored.forEach(key -> storedHashes.add(key.array()));
+        jdbcTemplate.update("DELETE FROM auth_refresh_tokens WHERE token_hash IN ("
+                + String.join(",", Collections.nCopies(storedHashes.size(), "?")) + ")", storedHashes.toArray());
+
+        List<Object[]> inserts = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (ByteBuffer key : stored) {
+            RefreshToken replacement = byOldHash.get(key).replacement;
+            inserts.add(new Object[]{replacement.getUserId(), replacement.getTokenHash(), toBytes(replacement.getFamilyId()),
+                    Timestamp.valueOf(replacement.getExpiresAt()), now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO auth_refresh_tokens (user_id, token_hash, family_id, expires_at, created_at) "
+                + "VALUES (?, ?, ?, ?, ?)", inserts);
+        return stored;
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class IssuedToken {
+        private final Long userId;
+        private final UUID familyId;
+        private final LocalDateTime expiresAt;
+    }
+
+    private static class Rotation {
+        private final byte[] oldHash;
+        private final RefreshToken replacement;
+        private final CompletableFuture<Boolean> result;
+        // PENDING until a batch claims it or its caller cancels it, whichever comes first
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        // False for a later rotation of the same token within one batch
+        private boolean winner;
+
+        Rotation(byte[] oldHash, RefreshToken replacement, CompletableFuture<Boolean> result) {
+            this.oldHash = oldHash;
+            this.replacement = replacement;
+            this.result = result;
+        }
+    }
+}
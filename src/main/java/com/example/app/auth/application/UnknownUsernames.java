@@ -0,0 +1,70 @@
+package com.example.app.auth.application;
+
+import com.example.app.shared.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived negative cache of usernames a login lookup did not find, so repeated attempts
+ * against them (credential stuffing lists) skip the user query.
+ *
+ * <p>Registration removes its username after commit. Another instance may register a cached
+ * name in the meantime; that login fails for at most {@code ttl-ms}. Keys are trimmed and lower
+ * cased, matching how the username column compares.
+ */
+@Component
+public class UnknownUsernames {
+
+    @Value("${app.auth.unknown-username.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${app.auth.unknown-username.max-entries:100000}")
+    private int maxEntries;
+
+    // Username -> expiry (epoch millis)
+    private final Map<String, Long> unknown = new ConcurrentHashMap<>();
+
+    public boolean contains(String username) {
+        String key = key(username);
+        Long expiresAt = unknown.get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt < System.currentTimeMillis()) {
+            unknown.remove(key, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public void add(String username) {
+        if (ttlMs <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (unknown.size() >= maxEntries) {
+            unknown.values().removeIf(expiresAt -> expiresAt < now);
+            if (unknown.size() >= maxEntries) {
+                // Still full of live entries: skip caching rather than grow without bound
+                return;
+            }
+        }
+        unknown.put(key(username), now + ttlMs);
+    }
+
+    /**
+     * Forget a username once the transaction creating its user commits.
+     */
+    public void remove(String username) {
+        String key = key(username);
+        AfterCommit.run(() -> unknown.remove(key));
+    }
+
+    static String key(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.app.auth.config;
 
+import com.example.app.admin.application.AdminStatsApplicationService;
 import com.example.app.auth.domain.Role;
 import com.example.app.auth.domain.User;
 import com.example.app.auth.repository.UserRepository;
+import com.example.app.workers.application.WorkerApplicationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
@@ -18,6 +20,8 @@ public class DataInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AdminStatsApplicationService adminStatsApplicationService;
+    private final WorkerApplicationService workerApplicationService;
 
     @Override
     public void run(String... args) throws Exception {
@@ -58,6 +62,10 @@ public class DataInitializer implements CommandLineRunner {
                 .build();
 
         userRepository.saveAll(List.of(w1, w2, w3));
+        List.of(w1, w2, w3).forEach(worker -> {
+            workerApplicationService.userSaved(worker);
+            adminStatsApplicationService.userCreated(worker.getRole());
+        });
     }
 }
 
@@ -0,0 +1,74 @@
+package com.example.app.auth.config;
+
+import com.example.app.auth.domain.User;
+import com.example.app.auth.repository.UserRepository;
+import com.example.app.shared.security.JwtTokenProvider;
+import com.example.app.shared.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Keeps the in-memory token revocation list in step with auth_users, so access tokens issued
+ * before a block/unblock are rejected in stateless-principal mode on every instance.
+ *
+ * <p>The list is rebuilt at startup from the accounts changed within one access-token lifetime.
+ * After that, a periodic check re-reads the accounts whose updated_at moved since the previous
+ * check, which picks up changes made on other instances.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.security.stateless-principal.enabled", havingValue = "true")
+public class TokenRevocationSync implements CommandLineRunner {
+
+    // Each check re-reads this far back, covering commit delays and clock skew between instances
+    private static final long CHECK_OVERLAP_MINUTES = 1;
+
+    private final UserRepository userRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+
+    private volatile LocalDateTime checkedAt;
+
+    @Override
+    public void run(String... args) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int changed = apply(startedAt.minus(Duration.ofMillis(tokenProvider.getAccessTokenExpirationMs())));
+        checkedAt = startedAt;
+        log.info("Token revocation list initialized with {} recently changed accounts", changed);
+    }
+
+    /**
+     * Revoke tokens of accounts changed (on any instance) since the previous check.
+     */
+    @Scheduled(initialDelayString = "${app.security.token-revocation.check-interval-ms:5000}",
+            fixedDelayString = "${app.security.token-revocation.check-interval-ms:5000}")
+    public synchronized void checkForChanges() {
+        LocalDateTime since = checkedAt;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        // Revoking an account this instance already revoked is a no-op
+        apply(since.minusMinutes(CHECK_OVERLAP_MINUTES));
+        checkedAt = startedAt;
+    }
+
+    private int apply(LocalDateTime since) {
+        List<User> changed = userRepository.findByAccountVersionGreaterThanAndUpdatedAtAfter(0, since);
+        for (User user : changed) {
+            long changedAt = user.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            tokenRevocationList.revokeBefore(user.getId().toString(), user.getAccountVersion(), changedAt);
+        }
+        return changed.size();
+    }
+}
@@ -5,15 +5,23 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
 
 @Entity
 @Table(name = "auth_refresh_tokens", indexes = {
     @Index(name = "idx_user_id", columnList = "userId"),
-    @Index(name = "idx_token", columnList = "token"),
+    @Index(name = "idx_family_id", columnList = "familyId"),
     @Index(name = "idx_expires_at", columnList = "expiresAt")
 })
 @EntityListeners(AuditingEntityListener.class)
@@ -30,8 +38,14 @@ public class RefreshToken {
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    // SHA-256 of the JWT; the token itself is never stored
+    @Column(name = "token_hash", nullable = false, unique = true, columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
+
+    // Shared by a login's token and all its rotations
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "family_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID familyId;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
@@ -43,5 +57,25 @@ public class RefreshToken {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", insertable = false, updatable = false)
     private User user;
+
+    /**
+     * Row for a newly issued token; only the digest of {@code token} is kept.
+     */
+    public static RefreshToken issued(Long userId, UUID familyId, String token, Date expiration) {
+        return RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(hash(token))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    public static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
 
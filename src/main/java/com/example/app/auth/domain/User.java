@@ -36,6 +36,13 @@ public class User {
     @Column(nullable = false)
     private String password;
 
+    // Derived from the stored hash, e.g. "bcrypt" / "10" or "argon2id" / "m=19456,t=2,p=1"
+    @Column(length = 20)
+    private String passwordAlgorithm;
+
+    @Column(length = 50)
+    private String passwordCost;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean enabled = true;
@@ -52,6 +59,11 @@ public class User {
     @Builder.Default
     private Boolean credentialsNonExpired = true;
 
+    // Bumped on every account state change; embedded in access tokens for revocation
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer accountVersion = 0;
+
     @Column(length = 50)
     private String firstName;
 
@@ -83,6 +95,34 @@ public class User {
     @LastModifiedDate
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void updatePasswordParameters() {
+        if (password == null) {
+            passwordAlgorithm = null;
+            passwordCost = null;
+            return;
+        }
+        String hash = password;
+        String id = null;
+        if (hash.startsWith("{") && hash.indexOf('}') > 0) {
+            id = hash.substring(1, hash.indexOf('}'));
+            hash = hash.substring(hash.indexOf('}') + 1);
+        }
+        // Modular crypt format: $<scheme>$<params...>$<salt+hash>
+        String[] parts = hash.split("\\$");
+        if (parts.length > 2 && parts[1].startsWith("2")) {
+            passwordAlgorithm = "bcrypt";
+            passwordCost = parts[2];
+        } else if (parts.length > 3 && parts[1].startsWith("argon2")) {
+            passwordAlgorithm = parts[1];
+            passwordCost = parts[3];
+        } else {
+            passwordAlgorithm = id != null ? id : "unknown";
+            passwordCost = null;
+        }
+    }
 }
 
 
@@ -3,6 +3,9 @@ package com.example.app.auth.repository;
 import com.example.app.auth.domain.Role;
 import com.example.app.auth.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -23,8 +26,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     // Count users by role
     Long countByRole(Role role);
-}
 
+    // Count users of every role in one pass
+    @Query("SELECT u.role AS role, COUNT(u) AS total FROM User u GROUP BY u.role")
+    java.util.List<RoleCount> countGroupByRole();
 
+    // Users whose account state changed recently (used to keep the token revocation list in sync)
+    java.util.List<User> findByAccountVersionGreaterThanAndUpdatedAtAfter(Integer accountVersion, java.time.LocalDateTime since);
 
+    // Keyset pages, newest first: rows strictly after the cursor in (createdAt, id) order
+    @Query("SELECT u FROM User u WHERE u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    java.util.List<User> findAfterCursor(@Param("createdAt") java.time.LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable limit);
 
+    interface RoleCount {
+        Role getRole();
+        long getTotal();
+    }
+}
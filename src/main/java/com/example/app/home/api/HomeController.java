@@ -3,6 +3,7 @@ package com.example.app.home.api;
 import com.example.app.home.application.HomeService;
 import com.example.app.home.dto.HomePageResponse;
 import com.example.app.shared.response.ApiResponse;
+import com.example.app.shared.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class HomeController {
     private final HomeService homeService;
 
     @GetMapping
+    @ConditionalGet("home")
     @Operation(summary = "Get home page data")
     public ResponseEntity<ApiResponse<HomePageResponse>> getHomePage() {
         HomePageResponse response = homeService.getHomePageData();
@@ -35,9 +35,22 @@ public class LoyaltyController {
     public ResponseEntity<ApiResponse<PageUtil.PageResponse<PointsTransactionDto>>> getPointsHistory(
             Authentication authentication,
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count) {
+        Long userId = Long.parseLong(authentication.getName());
+        PageUtil.PageResponse<PointsTransactionDto> response = loyaltyService.getPointsHistory(
+                userId, page, size, PageUtil.CountMode.from(count));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/history/cursor")
+    @Operation(summary = "Get points transaction history with keyset (cursor) pagination")
+    public ResponseEntity<ApiResponse<PageUtil.CursorPageResponse<PointsTransactionDto>>> getPointsHistoryByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
         Long userId = Long.parseLong(authentication.getName());
-        PageUtil.PageResponse<PointsTransactionDto> response = loyaltyService.getPointsHistory(userId, page, size);
+        PageUtil.CursorPageResponse<PointsTransactionDto> response = loyaltyService.getPointsHistoryByCursor(userId, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 }
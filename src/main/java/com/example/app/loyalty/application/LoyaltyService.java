@@ -7,13 +7,17 @@ import com.example.app.loyalty.dto.PointsTransactionDto;
 import com.example.app.loyalty.mapper.LoyaltyMapper;
 import com.example.app.loyalty.repository.LoyaltyPointsRepository;
 import com.example.app.loyalty.repository.PointsTransactionRepository;
+import com.example.app.shared.util.ApproximateCountCache;
 import com.example.app.shared.util.PageUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class LoyaltyService {
@@ -21,6 +25,7 @@ public class LoyaltyService {
     private final LoyaltyPointsRepository loyaltyPointsRepository;
     private final PointsTransactionRepository pointsTransactionRepository;
     private final LoyaltyMapper loyaltyMapper;
+    private final ApproximateCountCache approximateCountCache;
 
     @Transactional(readOnly = true)
     public LoyaltyPointsDto getLoyaltyPoints(Long userId) {
@@ -37,12 +42,26 @@ public class LoyaltyService {
     }
 
     @Transactional(readOnly = true)
-    public PageUtil.PageResponse<PointsTransactionDto> getPointsHistory(Long userId, int page, int size) {
+    public PageUtil.PageResponse<PointsTransactionDto> getPointsHistory(Long userId, int page, int size,
+                                                                        PageUtil.CountMode countMode) {
         Pageable pageable = PageUtil.createPageable(page, size, "createdAt", "desc");
-        Page<PointsTransaction> transactions = pointsTransactionRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+        Slice<PointsTransaction> transactions = PageUtil.fetch(countMode, pageable,
+                p -> pointsTransactionRepository.findByUserIdOrderByCreatedAtDesc(userId, p),
+                p -> pointsTransactionRepository.findSliceByUserIdOrderByCreatedAtDesc(userId, p),
+                () -> approximateCountCache.get("loyalty.transactionsByUser", userId,
+                        () -> pointsTransactionRepository.countByUserId(userId)));
         return PageUtil.toPageResponse(transactions.map(loyaltyMapper::toTransactionDto));
     }
 
+    @Transactional(readOnly = true)
+    public PageUtil.CursorPageResponse<PointsTransactionDto> getPointsHistoryByCursor(Long userId, String cursor, int size) {
+        PageUtil.Cursor position = PageUtil.Cursor.decode(cursor);
+        List<PointsTransaction> transactions = pointsTransactionRepository.findByUserIdAfterCursor(
+                userId, position.getCreatedAt(), position.getId(), PageUtil.cursorLimit(size));
+        return PageUtil.toCursorPageResponse(transactions, size, PointsTransaction::getCreatedAt, PointsTransaction::getId,
+                page -> page.stream().map(loyaltyMapper::toTransactionDto).collect(Collectors.toList()));
+    }
+
     private Integer calculatePointsToNextTier(LoyaltyPoints.Tier currentTier, Integer currentPoints) {
         // Simple tier calculation logic
         int[] tierThresholds = {0, 100, 500, 1000}; // BRONZE, SILVER, GOLD, PLATINUM
@@ -3,12 +3,29 @@ package com.example.app.loyalty.repository;
 import com.example.app.loyalty.domain.PointsTransaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface PointsTransactionRepository extends JpaRepository<PointsTransaction, Long> {
     Page<PointsTransaction> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    Slice<PointsTransaction> findSliceByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    long countByUserId(Long userId);
+
+    // Keyset pages, newest first: rows strictly after the cursor in (createdAt, id) order
+    @Query("SELECT t FROM PointsTransaction t WHERE t.userId = :userId " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<PointsTransaction> findByUserIdAfterCursor(@Param("userId") Long userId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable limit);
 }
 
 
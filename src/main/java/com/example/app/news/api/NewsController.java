@@ -4,6 +4,7 @@ import com.example.app.news.application.NewsService;
 import com.example.app.news.dto.NewsDto;
 import com.example.app.shared.response.ApiResponse;
 import com.example.app.shared.util.PageUtil;
+import com.example.app.shared.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -21,17 +22,20 @@ public class NewsController {
     private final NewsService newsService;
 
     @GetMapping
+    @ConditionalGet("news")
     @Operation(summary = "Get all news articles")
     public ResponseEntity<ApiResponse<PageUtil.PageResponse<NewsDto>>> getAllNews(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
-        PageUtil.PageResponse<NewsDto> response = newsService.getAllNews(page, size, sortBy, sortDir);
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "exact") String count) {
+        PageUtil.PageResponse<NewsDto> response = newsService.getAllNews(page, size, sortBy, sortDir, PageUtil.CountMode.from(count));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet("news")
     @Operation(summary = "Get news article by ID")
     public ResponseEntity<ApiResponse<NewsDto>> getNewsById(@PathVariable Long id) {
         NewsDto response = newsService.getNewsById(id);
@@ -39,6 +43,7 @@ public class NewsController {
     }
 
     @GetMapping("/featured")
+    @ConditionalGet("news")
     @Operation(summary = "Get featured news articles")
     public ResponseEntity<ApiResponse<List<NewsDto>>> getFeaturedNews() {
         List<NewsDto> response = newsService.getFeaturedNews();
@@ -5,9 +5,11 @@ import com.example.app.news.dto.NewsDto;
 import com.example.app.news.mapper.NewsMapper;
 import com.example.app.news.repository.NewsRepository;
 import com.example.app.shared.exception.ResourceNotFoundException;
+import com.example.app.shared.util.ApproximateCountCache;
 import com.example.app.shared.util.PageUtil;
+import com.example.app.shared.util.SortableFields;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,13 +21,23 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NewsService {
 
+    public static final SortableFields PUBLISHED_NEWS_SORTS = SortableFields.builder("news_articles")
+            .field("createdAt", "created_at", "idx_published_created_at")
+            .field("id", "id", "idx_published")
+            .build();
+
     private final NewsRepository newsRepository;
     private final NewsMapper newsMapper;
+    private final ApproximateCountCache approximateCountCache;
 
     @Transactional(readOnly = true)
-    public PageUtil.PageResponse<NewsDto> getAllNews(int page, int size, String sortBy, String sortDir) {
-        Pageable pageable = PageUtil.createPageable(page, size, sortBy, sortDir);
-        Page<News> news = newsRepository.findByPublishedTrue(pageable);
+    public PageUtil.PageResponse<NewsDto> getAllNews(int page, int size, String sortBy, String sortDir,
+                                                     PageUtil.CountMode countMode) {
+        Pageable pageable = PageUtil.createPageable(page, size, sortBy, sortDir, PUBLISHED_NEWS_SORTS);
+        Slice<News> news = PageUtil.fetch(countMode, pageable,
+                newsRepository::findByPublishedTrue,
+                newsRepository::findSliceByPublishedTrue,
+                () -> approximateCountCache.get("news.published", "all", newsRepository::countByPublishedTrue));
         return PageUtil.toPageResponse(news.map(newsMapper::toDto));
     }
 
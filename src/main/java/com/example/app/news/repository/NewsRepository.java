@@ -3,6 +3,7 @@ package com.example.app.news.repository;
 import com.example.app.news.domain.News;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,6 +12,8 @@ import java.util.List;
 @Repository
 public interface NewsRepository extends JpaRepository<News, Long> {
     Page<News> findByPublishedTrue(Pageable pageable);
+    Slice<News> findSliceByPublishedTrue(Pageable pageable);
+    long countByPublishedTrue();
     List<News> findByFeaturedTrue();
 }
 
@@ -35,9 +35,22 @@ public class OrderController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "exact") String count) {
         Long userId = Long.parseLong(authentication.getName());
-        PageUtil.PageResponse<OrderDto> response = orderService.getUserOrders(userId, page, size, sortBy, sortDir);
+        PageUtil.PageResponse<OrderDto> response = orderService.getUserOrders(
+                userId, page, size, sortBy, sortDir, PageUtil.CountMode.from(count));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Get user orders, newest first, with keyset (cursor) pagination")
+    public ResponseEntity<ApiResponse<PageUtil.CursorPageResponse<OrderDto>>> getUserOrdersByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        Long userId = Long.parseLong(authentication.getName());
+        PageUtil.CursorPageResponse<OrderDto> response = orderService.getUserOrdersByCursor(userId, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
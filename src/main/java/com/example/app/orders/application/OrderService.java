@@ -1,5 +1,6 @@
 package com.example.app.orders.application;
 
+import com.example.app.admin.application.AdminStatsApplicationService;
 import com.example.app.orders.domain.Order;
 import com.example.app.orders.domain.OrderReview;
 import com.example.app.orders.dto.CreateReviewRequest;
@@ -10,13 +11,17 @@ import com.example.app.orders.repository.OrderRepository;
 import com.example.app.orders.repository.OrderReviewRepository;
 import com.example.app.shared.exception.BadRequestException;
 import com.example.app.shared.exception.ResourceNotFoundException;
+import com.example.app.shared.util.ApproximateCountCache;
 import com.example.app.shared.util.PageUtil;
+import com.example.app.shared.util.SortableFields;
 import com.example.app.workers.application.WorkerAvailabilityService;
+import com.example.app.workers.application.WorkerBookingIndex;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,18 +30,45 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderService {
 
+    // Approximate-count key for a user's orders, shared with the admin module which also creates orders
+    public static final String ORDERS_BY_USER_COUNT = "orders.byUser";
+
+    // Sorts for a user's own orders; InnoDB appends id to idx_user_id, so it also orders by id
+    public static final SortableFields USER_ORDER_SORTS = SortableFields.builder("orders_orders")
+            .field("createdAt", "created_at", "idx_user_created_at")
+            .field("id", "id", "idx_user_id")
+            .build();
+
     private final OrderRepository orderRepository;
     private final OrderReviewRepository orderReviewRepository;
     private final OrderMapper orderMapper;
     private final WorkerAvailabilityService workerAvailabilityService;
+    private final AdminStatsApplicationService adminStatsApplicationService;
+    private final WorkerBookingIndex workerBookingIndex;
+    private final WorkerBookingLocks workerBookingLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final ApproximateCountCache approximateCountCache;
 
     @Transactional(readOnly = true)
-    public PageUtil.PageResponse<OrderDto> getUserOrders(Long userId, int page, int size, String sortBy, String sortDir) {
-        Pageable pageable = PageUtil.createPageable(page, size, sortBy, sortDir);
-        Page<Order> orders = orderRepository.findByUserId(userId, pageable);
+    public PageUtil.PageResponse<OrderDto> getUserOrders(Long userId, int page, int size, String sortBy, String sortDir,
+                                                         PageUtil.CountMode countMode) {
+        Pageable pageable = PageUtil.createPageable(page, size, sortBy, sortDir, USER_ORDER_SORTS);
+        Slice<Order> orders = PageUtil.fetch(countMode, pageable,
+                p -> orderRepository.findByUserId(userId, p),
+                p -> orderRepository.findSliceByUserId(userId, p),
+                () -> approximateCountCache.get(ORDERS_BY_USER_COUNT, userId, () -> orderRepository.countByUserId(userId)));
         return PageUtil.toPageResponse(orders.map(orderMapper::toDto));
     }
 
+    @Transactional(readOnly = true)
+    public PageUtil.CursorPageResponse<OrderDto> getUserOrdersByCursor(Long userId, String cursor, int size) {
+        PageUtil.Cursor position = PageUtil.Cursor.decode(cursor);
+        List<Order> orders = orderRepository.findByUserIdAfterCursor(
+                userId, position.getCreatedAt(), position.getId(), PageUtil.cursorLimit(size));
+        return PageUtil.toCursorPageResponse(orders, size, Order::getCreatedAt, Order::getId,
+                page -> page.stream().map(orderMapper::toDto).collect(Collectors.toList()));
+    }
+
     @Transactional(readOnly = true)
     public OrderDto getOrderById(Long orderId, Long userId) {
         Order order = orderRepository.findById(orderId)
@@ -80,21 +112,36 @@ public class OrderService {
         return orderMapper.toReviewDto(review);
     }
 
-    @Transactional
+    /**
+     * Create an order, booking the requested worker without double-booking.
+     *
+     * <p>Bookings for one worker are serialized by a striped in-JVM lock, and the availability check
+     * and insert run in one transaction that holds a row lock on the worker until commit, which
+     * also guards against concurrent bookings on other instances. Other workers are unaffected.
+     */
     public OrderDto createOrder(Long userId, com.example.app.orders.dto.CreateOrderRequest request) {
-        // Validate worker availability if worker is specified
-        if (request.getWorkerId() != null) {
-            boolean isAvailable = workerAvailabilityService.isWorkerAvailable(
-                    request.getWorkerId(),
-                    request.getScheduledAt(),
-                    request.getDurationMinutes()
-            );
-
-            if (!isAvailable) {
-                throw new BadRequestException("Thợ này không khả dụng trong khung giờ đã chọn. Vui lòng chọn thợ khác hoặc thời gian khác.");
-            }
+        if (request.getWorkerId() == null) {
+            return transactionTemplate.execute(status -> saveOrder(userId, request));
         }
+        return workerBookingLocks.withWorkerLock(request.getWorkerId(),
+                () -> transactionTemplate.execute(status -> bookWorker(userId, request)));
+    }
+
+    private OrderDto bookWorker(Long userId, com.example.app.orders.dto.CreateOrderRequest request) {
+        boolean isAvailable = workerAvailabilityService.lockAndCheckAvailability(
+                request.getWorkerId(),
+                request.getScheduledAt(),
+                request.getDurationMinutes()
+        );
+
+        if (!isAvailable) {
+            throw new BadRequestException("Thợ này không khả dụng trong khung giờ đã chọn. Vui lòng chọn thợ khác hoặc thời gian khác.");
+        }
+
+        return saveOrder(userId, request);
+    }
 
+    private OrderDto saveOrder(Long userId, com.example.app.orders.dto.CreateOrderRequest request) {
         Order order = Order.builder()
                 .userId(userId)
                 .serviceId(request.getServiceId())
@@ -107,6 +154,9 @@ public class OrderService {
                 .build();
 
         order = orderRepository.save(order);
+        adminStatsApplicationService.orderCreated(order.getStatus());
+        workerBookingIndex.onOrderSaved(order);
+        approximateCountCache.increment(ORDERS_BY_USER_COUNT, userId, 1);
         return orderMapper.toDto(order);
     }
 
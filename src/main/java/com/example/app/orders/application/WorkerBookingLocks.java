@@ -0,0 +1,37 @@
+package com.example.app.orders.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped per-worker locks that serialize bookings for the same worker inside this JVM.
+ *
+ * <p>Bookings for different workers rarely share a stripe, so they proceed in parallel.
+ * Waiting here, rather than on the database row lock, keeps queued requests from holding
+ * pooled connections. The row lock taken during the booking still guards against other instances.
+ */
+@Component
+public class WorkerBookingLocks {
+
+    private final ReentrantLock[] stripes;
+
+    public WorkerBookingLocks(@Value("${app.orders.booking-lock-stripes:64}") int stripeCount) {
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withWorkerLock(Long workerId, Supplier<T> action) {
+        ReentrantLock lock = stripes[Math.floorMod(Long.hashCode(workerId), stripes.length)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -40,6 +40,10 @@ public class Order {
     @Column(nullable = true)
     private Integer durationMinutes;
 
+    // Derived from scheduledAt + durationMinutes; stored so overlap queries can use an index
+    @Column(nullable = true)
+    private LocalDateTime scheduledEnd;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     @Builder.Default
@@ -59,6 +63,14 @@ public class Order {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @PrePersist
+    @PreUpdate
+    void updateScheduledEnd() {
+        scheduledEnd = (scheduledAt != null && durationMinutes != null)
+                ? scheduledAt.plusMinutes(durationMinutes)
+                : null;
+    }
+
     public enum OrderStatus {
         PENDING, CONFIRMED, IN_PROGRESS, COMPLETED, CANCELLED
     }
@@ -3,28 +3,60 @@ package com.example.app.orders.repository;
 import com.example.app.orders.domain.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     Page<Order> findByUserId(Long userId, Pageable pageable);
+    Slice<Order> findSliceByUserId(Long userId, Pageable pageable);
+    long countByUserId(Long userId);
+
+    // Keyset pages, newest first: rows strictly after the cursor in (createdAt, id) order
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findByUserIdAfterCursor(@Param("userId") Long userId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable limit);
+
+    @Query("SELECT o FROM Order o WHERE o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findAfterCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
     List<Order> findByUserIdAndStatus(Long userId, Order.OrderStatus status);
     long countByStatus(Order.OrderStatus status);
 
-    @Query(value = "SELECT * FROM orders_orders o WHERE o.worker_id = :workerId AND o.status IN :statuses " +
-           "AND o.scheduled_at IS NOT NULL AND o.duration_minutes IS NOT NULL " +
-           "AND o.scheduled_at < :endTime AND DATE_ADD(o.scheduled_at, INTERVAL o.duration_minutes MINUTE) > :startTime",
-           nativeQuery = true)
+    List<Order> findByWorkerIdIsNotNullAndScheduledAtIsNotNullAndStatusIn(Collection<Order.OrderStatus> statuses);
+    List<Order> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    @Query("SELECT o.status AS status, COUNT(o) AS total FROM Order o GROUP BY o.status")
+    List<StatusCount> countGroupByStatus();
+
+    @Query("SELECT o FROM Order o WHERE o.workerId = :workerId AND o.status IN :statuses " +
+           "AND o.scheduledAt < :endTime AND o.scheduledEnd > :startTime")
     List<Order> findConflictingOrdersForWorker(@Param("workerId") Long workerId,
                                                @Param("startTime") LocalDateTime startTime,
                                                @Param("endTime") LocalDateTime endTime,
                                                @Param("statuses") List<Order.OrderStatus> statuses);
-}
 
+    // Ids of the given workers that have an overlapping booking, resolved in one statement
+    @Query("SELECT DISTINCT o.workerId FROM Order o WHERE o.workerId IN :workerIds AND o.status IN :statuses " +
+           "AND o.scheduledAt < :endTime AND o.scheduledEnd > :startTime")
+    List<Long> findBusyWorkerIds(@Param("workerIds") Collection<Long> workerIds,
+                                 @Param("startTime") LocalDateTime startTime,
+                                 @Param("endTime") LocalDateTime endTime,
+                                 @Param("statuses") Collection<Order.OrderStatus> statuses);
 
+    interface StatusCount {
+        Order.OrderStatus getStatus();
+        long getTotal();
+    }
+}
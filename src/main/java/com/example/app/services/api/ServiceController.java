@@ -4,6 +4,7 @@ import com.example.app.services.application.ServiceApplicationService;
 import com.example.app.services.dto.ServiceDto;
 import com.example.app.shared.response.ApiResponse;
 import com.example.app.shared.util.PageUtil;
+import com.example.app.shared.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class ServiceController {
     private final ServiceApplicationService serviceApplicationService;
 
     @GetMapping
+    @ConditionalGet("services")
     @Operation(summary = "Get all services")
     public ResponseEntity<ApiResponse<PageUtil.PageResponse<ServiceDto>>> getAllServices(
             @RequestParam(defaultValue = "0") int page,
@@ -32,6 +34,7 @@ public class ServiceController {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet("services")
     @Operation(summary = "Get service by ID")
     public ResponseEntity<ApiResponse<ServiceDto>> getServiceById(@PathVariable Long id) {
         ServiceDto response = serviceApplicationService.getServiceById(id);
@@ -39,6 +42,7 @@ public class ServiceController {
     }
 
     @GetMapping("/category/{category}")
+    @ConditionalGet("services")
     @Operation(summary = "Get services by category")
     public ResponseEntity<ApiResponse<List<ServiceDto>>> getServicesByCategory(@PathVariable String category) {
         List<ServiceDto> response = serviceApplicationService.getServicesByCategory(category);
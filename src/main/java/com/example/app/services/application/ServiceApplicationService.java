@@ -52,4 +52,17 @@ public interface ServiceApplicationService {
      * @param reviewCount the total review count
      */
     void updateServiceRating(Long serviceId, Double newRating, Long reviewCount);
+    
+    /**
+     * Get the catalog version, which increases every time the cached catalog is rebuilt
+     * 
+     * @return the current catalog version
+     */
+    long getCatalogVersion();
+    
+    /**
+     * Notify that services were created, updated or deleted outside this module (called by Admin module).
+     * The cached catalog is rebuilt once the current transaction commits.
+     */
+    void catalogChanged();
 }
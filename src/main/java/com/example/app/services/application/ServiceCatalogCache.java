@@ -0,0 +1,194 @@
+package com.example.app.services.application;
+
+import com.example.app.services.dto.ServiceDto;
+import com.example.app.services.mapper.ServiceMapper;
+import com.example.app.services.repository.ServiceRepository;
+import com.example.app.shared.util.AfterCommit;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through, in-memory snapshot of the services catalog.
+ *
+ * <p>The catalog is small and only changes through admin writes, so the whole table is held as
+ * DTO lists indexed by id and by category. The snapshot is loaded on first read and rebuilt after
+ * every committed catalog write on this instance; each rebuild bumps {@link #getVersion()}.
+ * Writes made elsewhere (another instance, direct SQL) are picked up by a periodic check of the
+ * table's row count and latest updated_at, and by a reload once the snapshot is older than
+ * {@code max-age-ms}. Readers get copies, so the snapshot itself is never modified.
+ *
+ * <p>The check also runs without a snapshot (cache disabled, or not read yet): the version then
+ * moves with the table alone, so responses cached under it still expire on external writes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServiceCatalogCache {
+
+    private final ServiceRepository serviceRepository;
+    private final ServiceMapper serviceMapper;
+
+    // Also bounds writes the fingerprint cannot see, e.g. two edits within the same second
+    @Value("${app.services.catalog-cache.max-age-ms:600000}")
+    private long maxAgeMs;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Catalog catalog;
+
+    // What the check last saw while there was no snapshot to compare against
+    private String uncachedFingerprint;
+    private long uncachedSeenAt;
+
+    /**
+     * @return copies of every service, active or not, ordered by id
+     */
+    public List<ServiceDto> getAll() {
+        return copies(catalog().all);
+    }
+
+    public ServiceDto getById(Long id) {
+        ServiceDto service = catalog().byId.get(id);
+        return service != null ? copy(service) : null;
+    }
+
+    public List<ServiceDto> getByCategory(String category) {
+        return copies(catalog().byCategory.getOrDefault(category, List.of()));
+    }
+
+    /**
+     * Monotonically increasing catalog version, bumped on every rebuild.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Rebuild the snapshot once the surrounding transaction commits, or right away without one.
+     */
+    public void invalidate() {
+        AfterCommit.run(this::reload);
+    }
+
+    /**
+     * Reload a snapshot that no longer matches the table or has reached its maximum age. Without a
+     * snapshot, bump the version instead under the same conditions.
+     */
+    @Scheduled(initialDelayString = "${app.services.catalog-cache.check-interval-ms:5000}",
+            fixedDelayString = "${app.services.catalog-cache.check-interval-ms:5000}")
+    public void checkForChanges() {
+        Catalog current = catalog;
+        if (current == null) {
+            checkUncached();
+            return;
+        }
+        if (System.currentTimeMillis() - current.loadedAt >= maxAgeMs) {
+            reload();
+        } else if (!fingerprint().equals(current.fingerprint)) {
+            log.debug("Services catalog changed outside this instance, reloading");
+            reload();
+        }
+    }
+
+    private synchronized void checkUncached() {
+        String fingerprint = fingerprint();
+        long now = System.currentTimeMillis();
+        // The first check bumps too: a write may have landed between an earlier response and now
+        if (!fingerprint.equals(uncachedFingerprint) || now - uncachedSeenAt >= maxAgeMs) {
+            uncachedFingerprint = fingerprint;
+            uncachedSeenAt = now;
+            version.incrementAndGet();
+        }
+    }
+
+    private Catalog catalog() {
+        Catalog current = catalog;
+        if (current == null) {
+            synchronized (this) {
+                current = catalog;
+                if (current == null) {
+                    current = load();
+                }
+            }
+        }
+        return current;
+    }
+
+    private synchronized void reload() {
+        load();
+    }
+
+    private Catalog load() {
+        // Read before the rows, so a write in between is seen as a change by the next check
+        String fingerprint = fingerprint();
+        List<ServiceDto> all = serviceRepository.findAll().stream()
+                .sorted(Comparator.comparing(com.example.app.services.domain.Service::getId))
+                .map(serviceMapper::toDto)
+                .collect(Collectors.toList());
+
+        Map<Long, ServiceDto> byId = new LinkedHashMap<>();
+        Map<String, List<ServiceDto>> byCategory = new LinkedHashMap<>();
+        for (ServiceDto service : all) {
+            byId.put(service.getId(), service);
+            byCategory.computeIfAbsent(service.getCategory(), c -> new ArrayList<>()).add(service);
+        }
+        byCategory.replaceAll((category, services) -> Collections.unmodifiableList(services));
+
+        Catalog loaded = new Catalog(Collections.unmodifiableList(all),
+                Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byCategory),
+                fingerprint, System.currentTimeMillis());
+        catalog = loaded;
+        long loadedVersion = version.incrementAndGet();
+        log.debug("Service catalog loaded with {} services, version {}", all.size(), loadedVersion);
+        return loaded;
+    }
+
+    private String fingerprint() {
+        ServiceRepository.CatalogFingerprint fingerprint = serviceRepository.fingerprint();
+        return fingerprint.getTotal() + "|" + fingerprint.getLastUpdated();
+    }
+
+    private static List<ServiceDto> copies(Collection<ServiceDto> services) {
+        List<ServiceDto> result = new ArrayList<>(services.size());
+        services.forEach(service -> result.add(copy(service)));
+        return result;
+    }
+
+    private static ServiceDto copy(ServiceDto service) {
+        return ServiceDto.builder()
+                .id(service.getId())
+                .name(service.getName())
+                .description(service.getDescription())
+                .basePrice(service.getBasePrice())
+                .imageUrl(service.getImageUrl())
+                .category(service.getCategory())
+                .details(service.getDetails())
+                .active(service.getActive())
+                .createdAt(service.getCreatedAt())
+                .updatedAt(service.getUpdatedAt())
+                .build();
+    }
+
+    @AllArgsConstructor
+    private static class Catalog {
+        private final List<ServiceDto> all;
+        private final Map<Long, ServiceDto> byId;
+        private final Map<String, List<ServiceDto>> byCategory;
+        // Row count and latest updated_at when loaded
+        private final String fingerprint;
+        private final long loadedAt;
+    }
+}
@@ -5,13 +5,18 @@ import com.example.app.services.mapper.ServiceMapper;
 import com.example.app.services.repository.ServiceRepository;
 import com.example.app.shared.exception.ResourceNotFoundException;
 import com.example.app.shared.util.PageUtil;
+import com.example.app.shared.util.SortableFields;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -24,33 +29,80 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ServiceServiceImpl implements ServiceApplicationService {
 
+    public static final SortableFields CATALOG_SORTS = SortableFields.builder("services_services")
+            .field("id", "id", "PRIMARY")
+            .field("name", "name", "idx_name")
+            .field("basePrice", "base_price", "idx_base_price")
+            .field("category", "category", "idx_category")
+            .field("createdAt", "created_at", "idx_created_at")
+            .build();
+
+    // In-memory ordering for every field in CATALOG_SORTS
+    private static final Map<String, Comparator<ServiceDto>> CATALOG_COMPARATORS = Map.of(
+            "id", Comparator.comparing(ServiceDto::getId, Comparator.nullsFirst(Comparator.naturalOrder())),
+            "name", Comparator.comparing(ServiceDto::getName, Comparator.nullsFirst(Comparator.naturalOrder())),
+            "basePrice", Comparator.comparing(ServiceDto::getBasePrice, Comparator.nullsFirst(Comparator.naturalOrder())),
+            "category", Comparator.comparing(ServiceDto::getCategory, Comparator.nullsFirst(Comparator.naturalOrder())),
+            "createdAt", Comparator.comparing(ServiceDto::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+
     private final ServiceRepository serviceRepository;
     private final ServiceMapper serviceMapper;
+    private final ServiceCatalogCache serviceCatalogCache;
+
+    // Catalog reads are not @Transactional, so a cache hit does not even borrow a connection
+    @Value("${app.services.catalog-cache.enabled:true}")
+    private boolean catalogCacheEnabled;
 
     @Override
-    @Transactional(readOnly = true)
     public PageUtil.PageResponse<ServiceDto> getAllServices(int page, int size, String sortBy, String sortDir) {
-        Pageable pageable = PageUtil.createPageable(page, size, sortBy, sortDir);
+        Pageable pageable = PageUtil.createPageable(page, size, sortBy, sortDir, CATALOG_SORTS);
+        if (catalogCacheEnabled) {
+            Comparator<ServiceDto> comparator = CATALOG_COMPARATORS.get(sortBy);
+            List<ServiceDto> sorted = serviceCatalogCache.getAll();
+            // Ties keep id order, like the primary key order the database falls back to
+            sorted.sort(sortDir.equalsIgnoreCase("desc") ? comparator.reversed() : comparator);
+            int from = (int) Math.min(pageable.getOffset(), sorted.size());
+            int to = Math.min(from + pageable.getPageSize(), sorted.size());
+            return PageUtil.toPageResponse(new PageImpl<>(sorted.subList(from, to), pageable, sorted.size()));
+        }
         Page<com.example.app.services.domain.Service> services = serviceRepository.findAll(pageable);
         return PageUtil.toPageResponse(services.map(s -> serviceMapper.toDto(s)));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public ServiceDto getServiceById(Long id) {
+        if (catalogCacheEnabled) {
+            ServiceDto service = serviceCatalogCache.getById(id);
+            if (service == null || !Boolean.TRUE.equals(service.getActive())) {
+                throw new ResourceNotFoundException("Service not found with id: " + id);
+            }
+            return service;
+        }
         return serviceRepository.findByIdAndActiveTrue(id)
                 .map(serviceMapper::toDto)
                 .orElseThrow(() -> new ResourceNotFoundException("Service not found with id: " + id));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ServiceDto> getServicesByCategory(String category) {
+        if (catalogCacheEnabled) {
+            return serviceCatalogCache.getByCategory(category);
+        }
         return serviceRepository.findByCategory(category).stream()
                 .map(serviceMapper::toDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public long getCatalogVersion() {
+        return serviceCatalogCache.getVersion();
+    }
+
+    @Override
+    public void catalogChanged() {
+        serviceCatalogCache.invalidate();
+    }
+
     @Override
     @Transactional
     public void updateServiceRating(Long serviceId, Double newRating, Long reviewCount) {
@@ -59,6 +111,7 @@ public class ServiceServiceImpl implements ServiceApplicationService {
         // Update rating fields if they exist in the entity
         // This is a placeholder - implement based on your Service entity structure
         serviceRepository.save(service);
+        serviceCatalogCache.invalidate();
     }
 }
 
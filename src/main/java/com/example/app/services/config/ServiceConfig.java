@@ -1,16 +1,21 @@
 package com.example.app.services.config;
 
+import com.example.app.services.application.ServiceApplicationService;
+import com.example.app.shared.web.ResourceVersions;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@RequiredArgsConstructor
 public class ServiceConfig {
-    // Module-specific configuration
-}
-
-
-
-
-
-
 
+    private final ResourceVersions resourceVersions;
+    private final ServiceApplicationService serviceApplicationService;
 
+    @PostConstruct
+    void registerResourceVersion() {
+        // ETags of the public catalog endpoints change exactly when the cached catalog is rebuilt
+        resourceVersions.register("services", serviceApplicationService::getCatalogVersion);
+    }
+}
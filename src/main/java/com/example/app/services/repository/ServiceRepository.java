@@ -4,8 +4,10 @@ import com.example.app.services.domain.Service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,5 +16,14 @@ public interface ServiceRepository extends JpaRepository<Service, Long> {
     Page<Service> findByActiveTrue(Pageable pageable);
     List<Service> findByCategory(String category);
     Optional<Service> findByIdAndActiveTrue(Long id);
+
+    // Changes whenever a row is inserted, deleted or updated (updated_at is ON UPDATE CURRENT_TIMESTAMP)
+    @Query("SELECT COUNT(s) AS total, MAX(s.updatedAt) AS lastUpdated FROM Service s")
+    CatalogFingerprint fingerprint();
+
+    interface CatalogFingerprint {
+        long getTotal();
+        LocalDateTime getLastUpdated();
+    }
 }
 
@@ -0,0 +1,12 @@
+package com.example.app.shared.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} maintenance jobs, e.g. the refresh-token purge.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,125 @@
+package com.example.app.shared.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the SQL each HTTP request issues (see {@link SqlRequestStats}) and:
+ * <ul>
+ *   <li>records {@code app.http.sql.statements} and {@code app.http.sql.time}, tagged with the route pattern;</li>
+ *   <li>warns when a request exceeds its statement budget ({@code app.sql-budget.default}, overridden per
+ *       route in {@code app.sql-budget.endpoints} as {@code /api/pattern:budget,...});</li>
+ *   <li>warns when one statement repeats {@code app.sql-budget.repeated-statement-threshold} times (likely N+1);</li>
+ *   <li>adds {@code X-SQL-Statements} and {@code X-SQL-Time-Ms} response headers when
+ *       {@code app.sql-budget.headers-enabled=true} (dev only: the body is buffered to set them).</li>
+ * </ul>
+ * Runs before the security filters so statements issued during authentication are counted too.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestSqlMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sql-budget.default:20}")
+    private int defaultBudget;
+
+    @Value("${app.sql-budget.endpoints:}")
+    private String endpointBudgets;
+
+    @Value("${app.sql-budget.repeated-statement-threshold:5}")
+    private int repeatedStatementThreshold;
+
+    @Value("${app.sql-budget.headers-enabled:false}")
+    private boolean headersEnabled;
+
+    private final Map<String, Integer> budgetsByPattern = new HashMap<>();
+
+    @PostConstruct
+    void parseBudgets() {
+        for (String entry : endpointBudgets.split(",")) {
+            int separator = entry.lastIndexOf(':');
+            if (separator > 0) {
+                budgetsByPattern.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+            }
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper bufferedResponse = headersEnabled ? new ContentCachingResponseWrapper(response) : null;
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            filterChain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+        } finally {
+            SqlRequestStats.end();
+            Object matched = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String pattern = matched != null ? matched.toString() : "UNKNOWN";
+            record(request, pattern, stats);
+            checkBudget(request, pattern, stats);
+            if (bufferedResponse != null) {
+                bufferedResponse.setHeader("X-SQL-Statements", String.valueOf(stats.getStatements()));
+                bufferedResponse.setHeader("X-SQL-Time-Ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getJdbcTimeNanos())));
+                bufferedResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, String pattern, SqlRequestStats stats) {
+        DistributionSummary.builder("app.http.sql.statements")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("app.http.sql.time")
+                .description("JDBC execution time per request")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getJdbcTimeNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Statement budget of a route pattern, e.g. {@code /api/admin/orders}.
+     */
+    int budgetFor(String pattern) {
+        return budgetsByPattern.getOrDefault(pattern, defaultBudget);
+    }
+
+    private void checkBudget(HttpServletRequest request, String pattern, SqlRequestStats stats) {
+        int budget = budgetFor(pattern);
+        if (stats.getStatements() > budget) {
+            log.warn("SQL budget exceeded: {} {} issued {} statements (budget {}) in {} ms",
+                    request.getMethod(), pattern, stats.getStatements(), budget,
+                    TimeUnit.NANOSECONDS.toMillis(stats.getJdbcTimeNanos()));
+        }
+        stats.getRepeatedStatements(repeatedStatementThreshold).forEach((sql, count) ->
+                log.warn("Possible N+1 on {} {}: statement executed {} times: {}", request.getMethod(), pattern, count, sql));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.app.shared.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the {@code @Service} classes in the modules' application packages.
+ *
+ * <p>Publishes {@code app.service.calls} (timer with histogram, tagged module/class/method/outcome)
+ * and {@code app.service.errors} (counter, additionally tagged with the exception type).
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private static final String APP_PACKAGE = "com.example.app.";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.example.app..application..*(..)) && @within(org.springframework.stereotype.Service)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> type = joinPoint.getSignature().getDeclaringType();
+        String module = module(type);
+        String className = type.getSimpleName();
+        String method = joinPoint.getSignature().getName();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            Counter.builder("app.service.errors")
+                    .tag("module", module)
+                    .tag("class", className)
+                    .tag("method", method)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("app.service.calls")
+                    .tag("module", module)
+                    .tag("class", className)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String module(Class<?> type) {
+        String name = type.getName();
+        if (!name.startsWith(APP_PACKAGE)) {
+            return "unknown";
+        }
+        int end = name.indexOf('.', APP_PACKAGE.length());
+        return end > 0 ? name.substring(APP_PACKAGE.length(), end) : "unknown";
+    }
+}
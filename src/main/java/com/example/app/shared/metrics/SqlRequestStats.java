@@ -0,0 +1,108 @@
+package com.example.app.shared.metrics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL statements and JDBC time issued on the current thread while a unit of work (normally one
+ * HTTP request, see {@link RequestSqlMetricsFilter}) is being measured. Statements on threads that
+ * are not being measured are not recorded.
+ *
+ * <p>Integration tests can wrap a call in {@link #measure(Runnable)} and assert a budget:
+ * <pre>
+ * SqlRequestStats.measure(() -&gt; adminService.getAllOrders(pageable)).assertStatementsAtMost(3);
+ * </pre>
+ */
+public class SqlRequestStats {
+
+    // Keeps the per-statement map small on unusually chatty units of work
+    private static final int MAX_DISTINCT_STATEMENTS = 500;
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private final Map<String, Integer> countsBySql = new HashMap<>();
+
+    /**
+     * Start measuring on this thread, replacing any measurement in progress.
+     */
+    public static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Measure the SQL issued by one call on this thread.
+     */
+    public static SqlRequestStats measure(Runnable action) {
+        SqlRequestStats previous = CURRENT.get();
+        SqlRequestStats stats = begin();
+        try {
+            action.run();
+            return stats;
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static void recordStatement(String sql) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            if (stats.countsBySql.size() < MAX_DISTINCT_STATEMENTS || stats.countsBySql.containsKey(sql)) {
+                stats.countsBySql.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcTimeNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * Statements issued at least {@code threshold} times with identical SQL, the usual N+1 signature
+     * (Hibernate binds parameters, so "select ... where id=?" per row shows up as one repeated text).
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        countsBySql.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    /**
+     * @throws AssertionError if more than {@code max} statements were issued
+     */
+    public SqlRequestStats assertStatementsAtMost(int max) {
+        if (statements > max) {
+            throw new AssertionError("Expected at most " + max + " SQL statements but " + statements
+                    + " were issued; repeated: " + getRepeatedStatements(2));
+        }
+        return this;
+    }
+}
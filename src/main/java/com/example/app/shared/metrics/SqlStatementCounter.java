@@ -0,0 +1,16 @@
+package com.example.app.shared.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} that records every SQL statement prepared on the current
+ * thread into {@link SqlRequestStats}. Statements are passed through unchanged.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats.recordStatement(sql);
+        return sql;
+    }
+}
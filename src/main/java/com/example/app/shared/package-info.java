@@ -11,6 +11,8 @@
  *   <li><b>exception</b> - Global exception handling and custom exceptions</li>
  *   <li><b>response</b> - Unified API response wrapper</li>
  *   <li><b>util</b> - Utility classes (pagination, etc.)</li>
+ *   <li><b>metrics</b> - Micrometer instrumentation (service timers, SQL statement counts)</li>
+ *   <li><b>web</b> - HTTP-level concerns such as conditional GET (ETag) support</li>
  * </ul>
  * 
  * <h3>Rules:</h3>
@@ -0,0 +1,95 @@
+package com.example.app.shared.security;
+
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of already verified bearer tokens.
+ *
+ * <p>Entries are keyed by a SHA-256 digest of the token, so the raw token is never held in memory,
+ * and live until the earlier of the token expiry or {@code app.security.auth-cache.ttl-ms}.
+ * A hit means the exact token was verified before, so both the HMAC check and the user lookup
+ * are skipped. Call {@link #evictUser(String)} whenever a user's account state changes.
+ */
+@Component
+public class AuthenticationCache {
+
+    @Value("${app.security.auth-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.security.auth-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${app.security.auth-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public UserDetails get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        String key = digest(token);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.userDetails;
+        }
+    }
+
+    public void put(String token, UserDetails userDetails, Date tokenExpiration) {
+        if (!enabled) {
+            return;
+        }
+        long expiresAt = Math.min(tokenExpiration.getTime(), System.currentTimeMillis() + ttlMs);
+        String key = digest(token);
+        synchronized (entries) {
+            entries.put(key, new Entry(userDetails, expiresAt));
+        }
+    }
+
+    /**
+     * Drop every cached token belonging to a user, e.g. after the account is blocked or unblocked.
+     */
+    public void evictUser(String userId) {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.userDetails.getUsername().equals(userId));
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final UserDetails userDetails;
+        private final long expiresAt;
+    }
+}
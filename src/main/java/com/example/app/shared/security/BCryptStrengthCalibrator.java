@@ -0,0 +1,53 @@
+package com.example.app.shared.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks the BCrypt cost factor for this machine: the highest strength in {@code [min, max]} whose
+ * hash takes no longer than the target. Each step up doubles the work, so the search stops at the
+ * first strength over target.
+ *
+ * <p>Existing hashes keep verifying at whatever strength they were created with, because BCrypt
+ * stores the cost in the hash.
+ */
+@Slf4j
+final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    static int calibrate(long targetMs, int minStrength, int maxStrength) {
+        // Warm up the JIT so the first measurement is not inflated
+        new BCryptPasswordEncoder(4).encode(SAMPLE_PASSWORD);
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsedMs = measureMs(strength);
+            log.debug("BCrypt strength {} takes {} ms", strength, elapsedMs);
+            if (elapsedMs > targetMs) {
+                break;
+            }
+            chosen = strength;
+            // The next strength costs about twice as much, so skip measuring it when it would miss
+            if (elapsedMs * 2 > targetMs) {
+                break;
+            }
+        }
+        log.info("BCrypt strength {} selected for a {} ms target", chosen, targetMs);
+        return chosen;
+    }
+
+    private static long measureMs(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        // Best of two filters out a GC pause or a noisy neighbour during startup
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+}
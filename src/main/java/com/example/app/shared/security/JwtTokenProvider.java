@@ -1,19 +1,31 @@
 package com.example.app.shared.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${app.jwt.secret:your-secret-key-change-this-in-production-min-256-bits}")
     private String jwtSecret;
 
@@ -23,8 +35,28 @@ public class JwtTokenProvider {
     @Value("${app.jwt.refresh-token-expiration-ms:86400000}")
     private long refreshTokenExpirationMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    // Key and parser are immutable and thread-safe, so build them once
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Timer validTokenTimer;
+    private Timer invalidTokenTimer;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        validTokenTimer = verifyTimer("valid");
+        invalidTokenTimer = verifyTimer("invalid");
+    }
+
+    private Timer verifyTimer(String result) {
+        return Timer.builder("app.jwt.verify")
+                .description("JWT signature and expiry verification")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     public String generateAccessToken(String userId) {
@@ -35,23 +67,65 @@ public class JwtTokenProvider {
                 .subject(userId)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String generateRefreshToken(String userId) {
+    /**
+     * Generate an access token that also carries the user's authority and account-state version,
+     * so the authentication filter can build the principal without loading the user.
+     */
+    public String generateAccessToken(String userId, String authority, int accountVersion) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + accessTokenExpirationMs);
+
+        return Jwts.builder()
+                .subject(userId)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .claim(VerifiedToken.ROLE_CLAIM, authority)
+                .claim(VerifiedToken.ACCOUNT_VERSION_CLAIM, accountVersion)
+                .signWith(signingKey)
+                .compact();
+    }
+
+    /**
+     * Generate a refresh token belonging to a token family (one login and its rotations).
+     * Each token gets a random id, so two tokens issued within the same second still differ.
+     */
+    public String generateRefreshToken(String userId, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshTokenExpirationMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userId)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .claim("type", "refresh")
-                .signWith(getSigningKey())
+                .claim(VerifiedToken.FAMILY_CLAIM, familyId)
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verify signature and expiry of a token, parsing it exactly once.
+     *
+     * @param token the compact JWT
+     * @return the verified claims, or empty if the token is malformed, forged or expired
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        long start = System.nanoTime();
+        try {
+            Claims claims = getAllClaimsFromToken(token);
+            validTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(new VerifiedToken(claims.getSubject(), claims.getExpiration(), claims));
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.empty();
+        }
+    }
+
     public String getUserIdFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
     }
@@ -66,32 +140,15 @@ public class JwtTokenProvider {
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        // The parser rejects expired tokens with ExpiredJwtException
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    public Boolean validateToken(String token) {
-        try {
-            getAllClaimsFromToken(token);
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
+    public long getAccessTokenExpirationMs() {
+        return accessTokenExpirationMs;
     }
 
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+    public Boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 }
-
-
-
-
-
-
-
-
@@ -0,0 +1,104 @@
+package com.example.app.shared.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keyed token buckets of {@code capacity} tokens, refilled at {@code refillPerMinute}.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding the instant (System.nanoTime) at which it
+ * is full again; the tokens left are {@code capacity - (fullAt - now) / refillInterval}. Taking a
+ * token pushes that instant one interval further with a CAS, so acquiring never locks.
+ *
+ * <p>The map holds at most about {@code maxKeys} buckets. Past that, buckets that are full again
+ * are dropped, since they carry no state; if a flood of distinct keys leaves none full, arbitrary
+ * buckets are dropped until the map is back under the limit.
+ *
+ * <p>Metrics: {@code app.rate-limit.rejected} and {@code app.rate-limit.keys}, tagged by {@code limit}.
+ */
+@Slf4j
+public class TokenBucketRateLimiter {
+
+    private final String name;
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final Counter rejected;
+
+    public TokenBucketRateLimiter(String name, int capacity, double refillPerMinute, int maxKeys,
+                                  MeterRegistry meterRegistry) {
+        if (capacity < 1 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("Rate limit " + name + " needs capacity >= 1 and refill-per-minute > 0");
+        }
+        this.name = name;
+        this.refillIntervalNanos = (long) (TimeUnit.MINUTES.toNanos(1) / refillPerMinute);
+        this.burstNanos = refillIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+        this.rejected = Counter.builder("app.rate-limit.rejected")
+                .description("Requests refused by a rate limit")
+                .tag("limit", name)
+                .register(meterRegistry);
+        Gauge.builder("app.rate-limit.keys", buckets, Map::size)
+                .description("Rate-limit buckets held in memory")
+                .tag("limit", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take one token from the bucket of {@code key}.
+     *
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(String key) {
+        AtomicLong fullAt = buckets.get(key);
+        if (fullAt == null) {
+            evictIfFull();
+            fullAt = buckets.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime()));
+        }
+        while (true) {
+            long now = System.nanoTime();
+            long current = fullAt.get();
+            long next = Math.max(current, now) + refillIntervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private void evictIfFull() {
+        if (buckets.size() < maxKeys || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            buckets.values().removeIf(fullAt -> fullAt.get() - now <= 0);
+            if (buckets.size() >= maxKeys) {
+                log.warn("Rate limit {} holds {} active keys, dropping some", name, buckets.size());
+                Iterator<AtomicLong> it = buckets.values().iterator();
+                // Drop a tenth so the next insert does not sweep again right away
+                while (buckets.size() > maxKeys - maxKeys / 10 && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.app.shared.security;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory blocklist of access tokens issued before a user's latest account-state change.
+ *
+ * <p>Each entry records the minimum account version a token must carry. Entries only need to live
+ * as long as an access token can, so they are dropped once every token issued before the change
+ * has expired, which keeps the list small.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList {
+
+    private final JwtTokenProvider tokenProvider;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Reject every token for the user whose account version is lower than {@code minVersion}.
+     */
+    public void revokeBefore(String userId, int minVersion) {
+        revokeBefore(userId, minVersion, System.currentTimeMillis());
+    }
+
+    /**
+     * Same as {@link #revokeBefore(String, int)} for a change that happened at {@code changedAtMs}.
+     */
+    public void revokeBefore(String userId, int minVersion, long changedAtMs) {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.retainUntil <= now);
+
+        long retainUntil = changedAtMs + tokenProvider.getAccessTokenExpirationMs();
+        if (retainUntil > now) {
+            entries.merge(userId, new Entry(minVersion, retainUntil),
+                    (current, next) -> next.minVersion >= current.minVersion ? next : current);
+        }
+    }
+
+    public boolean isRevoked(String userId, int accountVersion) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.retainUntil <= System.currentTimeMillis()) {
+            entries.remove(userId, entry);
+            return false;
+        }
+        return accountVersion < entry.minVersion;
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final int minVersion;
+        private final long retainUntil;
+    }
+}
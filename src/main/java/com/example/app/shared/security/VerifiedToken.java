@@ -0,0 +1,50 @@
+package com.example.app.shared.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * Result of a single successful signature and expiry check on a JWT.
+ *
+ * <p>Callers should parse a token once via {@link JwtTokenProvider#verify(String)}
+ * and read everything they need from this object instead of re-parsing the token.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    static final String ROLE_CLAIM = "role";
+    static final String ACCOUNT_VERSION_CLAIM = "ver";
+    static final String FAMILY_CLAIM = "fam";
+
+    private final String userId;
+    private final Date expiration;
+    private final Claims claims;
+
+    public String getType() {
+        return claims.get("type", String.class);
+    }
+
+    /**
+     * @return the granted authority embedded at issue time, or null for tokens issued without one
+     */
+    public String getRole() {
+        return claims.get(ROLE_CLAIM, String.class);
+    }
+
+    /**
+     * @return the account-state version embedded at issue time, or null for tokens issued without one
+     */
+    public Integer getAccountVersion() {
+        return claims.get(ACCOUNT_VERSION_CLAIM, Integer.class);
+    }
+
+    /**
+     * @return the refresh-token family id, or null for access tokens and refresh tokens issued without one
+     */
+    public String getFamilyId() {
+        return claims.get(FAMILY_CLAIM, String.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.app.shared.util;
+
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Totals for {@link PageUtil.CountMode#APPROXIMATE} pages, cached per (query, owner).
+ *
+ * <p>A total is counted once, then served from memory for {@code app.pagination.approximate-count.ttl-ms}.
+ * Writers that know they added or removed a row call {@link #increment(String, Object, long)} so the
+ * cached total stays close in between; anything else (rollbacks, other nodes, direct SQL) is corrected
+ * when the entry expires.
+ */
+@Component
+public class ApproximateCountCache {
+
+    @Value("${app.pagination.approximate-count.ttl-ms:300000}")
+    private long ttlMs;
+
+    @Value("${app.pagination.approximate-count.max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    public long get(String query, Object owner, LongSupplier counter) {
+        String key = key(query, owner);
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                return entry.total;
+            }
+        }
+        // Count outside the lock; concurrent misses may count twice, which is harmless
+        long total = counter.getAsLong();
+        synchronized (entries) {
+            entries.put(key, new Entry(total, now + ttlMs));
+        }
+        return total;
+    }
+
+    /**
+     * Adjust a cached total once the surrounding transaction commits. Totals not cached yet are left alone.
+     */
+    public void increment(String query, Object owner, long delta) {
+        String key = key(query, owner);
+        Runnable adjust = () -> {
+            synchronized (entries) {
+                Entry entry = entries.get(key);
+                if (entry != null) {
+                    entry.total = Math.max(0, entry.total + delta);
+                }
+            }
+        };
+        AfterCommit.run(adjust);
+    }
+
+    private static String key(String query, Object owner) {
+        return query + ':' + owner;
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private long total;
+        private final long expiresAt;
+    }
+}
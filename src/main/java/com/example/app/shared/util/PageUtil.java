@@ -1,13 +1,25 @@
 package com.example.app.shared.util;
 
+import com.example.app.shared.exception.BadRequestException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 public class PageUtil {
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     public static Pageable createPageable(int page, int size, String sortBy, String sortDir) {
         Sort sort = sortDir.equalsIgnoreCase("desc")
                 ? Sort.by(sortBy).descending()
@@ -15,6 +27,15 @@ public class PageUtil {
         return PageRequest.of(page, size, sort);
     }
 
+    /**
+     * Like {@link #createPageable(int, int, String, String)}, but only for whitelisted sort fields.
+     *
+     * @throws com.example.app.shared.exception.BadRequestException if sortBy is not in the whitelist
+     */
+    public static Pageable createPageable(int page, int size, String sortBy, String sortDir, SortableFields sortableFields) {
+        return createPageable(page, size, sortableFields.require(sortBy), sortDir);
+    }
+
     public static <T> PageResponse<T> toPageResponse(Page<T> page) {
         return PageResponse.<T>builder()
                 .content(page.getContent())
@@ -27,6 +48,153 @@ public class PageUtil {
                 .build();
     }
 
+    /**
+     * Build a response from a slice fetched without a count query. The totals are reported as -1,
+     * so clients that only need "is there more" read {@code last}.
+     */
+    public static <T> PageResponse<T> toPageResponse(Slice<T> slice) {
+        if (slice instanceof Page<T> page) {
+            return toPageResponse(page);
+        }
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .totalElements(-1)
+                .totalPages(-1)
+                .last(!slice.hasNext())
+                .first(slice.isFirst())
+                .build();
+    }
+
+    /**
+     * Run a paged query in the requested count mode.
+     *
+     * @param pageQuery query returning a Page, which costs an extra COUNT(*)
+     * @param sliceQuery the same query returning a Slice, which only fetches one extra row
+     * @param approximateTotal cached total, only consulted in APPROXIMATE mode
+     * @return a Page for EXACT and APPROXIMATE, a Slice for NONE
+     */
+    public static <T> Slice<T> fetch(CountMode countMode, Pageable pageable,
+                                     Function<Pageable, Page<T>> pageQuery,
+                                     Function<Pageable, Slice<T>> sliceQuery,
+                                     LongSupplier approximateTotal) {
+        switch (countMode) {
+            case NONE:
+                return sliceQuery.apply(pageable);
+            case APPROXIMATE:
+                Slice<T> slice = sliceQuery.apply(pageable);
+                // The cached total can be stale-low; never report fewer rows than this page has seen,
+                // or PageImpl clamps the total and marks a full page as last while more rows exist
+                long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+                return new PageImpl<>(slice.getContent(), pageable, Math.max(approximateTotal.getAsLong(), seen));
+            default:
+                return pageQuery.apply(pageable);
+        }
+    }
+
+    /**
+     * How the total of a paged response is obtained.
+     */
+    public enum CountMode {
+        // COUNT(*) on every request
+        EXACT,
+        // No total at all, only whether a next page exists
+        NONE,
+        // Total from ApproximateCountCache
+        APPROXIMATE;
+
+        public static CountMode from(String value) {
+            try {
+                return value == null ? EXACT : valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid count mode: " + value + " (expected exact, none or approximate)");
+            }
+        }
+    }
+
+    /**
+     * Limit for a keyset page query: one row more than requested, to tell whether a next page exists.
+     *
+     * @throws BadRequestException if size is not within 1..{@value #MAX_CURSOR_PAGE_SIZE}
+     */
+    public static Pageable cursorLimit(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("Invalid page size: " + size + " (expected 1 to " + MAX_CURSOR_PAGE_SIZE + ")");
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * Build a keyset page from rows fetched with {@link #cursorLimit(int)}, newest first by (createdAt, id).
+     *
+     * @param mapper maps the rows of this page to DTOs in one call, so it can batch-load related data
+     */
+    public static <E, D> CursorPageResponse<D> toCursorPageResponse(List<E> rows, int size,
+                                                                 Function<E, LocalDateTime> createdAt,
+                                                                 Function<E, Long> id,
+                                                                 Function<List<E>, List<D>> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = new Cursor(createdAt.apply(last), id.apply(last)).encode();
+        }
+        return CursorPageResponse.<D>builder()
+                .content(mapper.apply(page))
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * Position after the last row of a keyset page. Clients only ever see it as an opaque token.
+     */
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    public static class Cursor {
+        // Sorts after every real row, so the first page uses the same query as the next ones
+        private static final Cursor START = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        private final LocalDateTime createdAt;
+        private final Long id;
+
+        /**
+         * @param token continuation token from a previous page, or null/blank for the first page
+         * @throws BadRequestException if the token was not produced by {@link #encode()}
+         */
+        public static Cursor decode(String token) {
+            if (token == null || token.isBlank()) {
+                return START;
+            }
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                        Long.parseLong(decoded.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        public String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @lombok.Data
+    @lombok.Builder
+    public static class CursorPageResponse<T> {
+        private List<T> content;
+        private int size;
+        // Pass back as ?cursor= to get the next page; null on the last page
+        private String nextCursor;
+        private boolean hasNext;
+    }
+
     @lombok.Data
     @lombok.Builder
     public static class PageResponse<T> {
@@ -0,0 +1,66 @@
+package com.example.app.shared.util;
+
+import com.example.app.shared.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Whitelist of the fields one paged query may be sorted by, each bound to the index that serves
+ * that order, so a client cannot force a filesort over a whole table. {@code SortIndexTest} checks
+ * each binding with EXPLAIN.
+ */
+@Getter
+public class SortableFields {
+
+    private final String table;
+    private final Map<String, Field> fields;
+
+    private SortableFields(String table, Map<String, Field> fields) {
+        this.table = table;
+        this.fields = Collections.unmodifiableMap(fields);
+    }
+
+    public static Builder builder(String table) {
+        return new Builder(table);
+    }
+
+    /**
+     * @return the sort property unchanged if it is whitelisted
+     * @throws BadRequestException otherwise
+     */
+    public String require(String sortBy) {
+        if (sortBy == null || !fields.containsKey(sortBy)) {
+            throw new BadRequestException("Unsupported sort field: " + sortBy + ". Supported: " + String.join(", ", fields.keySet()));
+        }
+        return sortBy;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Field {
+        private final String column;
+        private final String index;
+    }
+
+    public static class Builder {
+        private final String table;
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+
+        private Builder(String table) {
+            this.table = table;
+        }
+
+        public Builder field(String property, String column, String index) {
+            fields.put(property, new Field(column, index));
+            return this;
+        }
+
+        public SortableFields build() {
+            return new SortableFields(table, fields);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.app.shared.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Accent- and case-insensitive text folding for search keys, e.g. "Sửa điện" -> "sua dien".
+ */
+public class TextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                // đ/Đ is a separate letter, not a base letter plus a combining mark
+                .replace('\u0111', 'd')
+                .replace('\u0110', 'D');
+        return NON_ALPHANUMERIC.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    public static List<String> tokens(String text) {
+        String folded = fold(text);
+        return folded.isEmpty() ? List.of() : List.of(folded.split(" "));
+    }
+
+    /**
+     * Every word-suffix of the folded text ("sua dien tai nha", "dien tai nha", "tai nha", "nha"),
+     * so a prefix lookup on these terms finds a phrase starting at any word.
+     */
+    public static List<String> suffixTerms(String text) {
+        List<String> tokens = tokens(text);
+        List<String> terms = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            terms.add(String.join(" ", tokens.subList(i, tokens.size())));
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.app.shared.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a public GET handler whose response is serialized once, tagged with a strong ETag and served
+ * from the {@link ResponseCache} (or as {@code 304 Not Modified}) while the named resource version is unchanged.
+ *
+ * <p>The response must depend only on the request URI, its query string and the resource,
+ * never on the caller.
+ *
+ * @see ResourceVersions
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConditionalGet {
+
+    /**
+     * Resource name whose version change invalidates the ETag, e.g. "services".
+     */
+    String value();
+}
@@ -0,0 +1,113 @@
+package com.example.app.shared.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializes successful {@link ConditionalGet} responses exactly once per request URI and resource
+ * version: the JSON bytes, their gzip variant and a strong ETag for each go into the
+ * {@link ResponseCache}, and the bytes are written straight to the response instead of handing the
+ * body back to the message converter.
+ */
+@Slf4j
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ConditionalGetAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ResourceVersions resourceVersions;
+    private final ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.http.response-cache.gzip-min-bytes:1024}")
+    private int gzipMinBytes;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ConditionalGet.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null
+                || !MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || servletResponse.getServletResponse().getStatus() != HttpServletResponse.SC_OK) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        String resource = returnType.getMethodAnnotation(ConditionalGet.class).value();
+        Object versionAttribute = httpRequest.getAttribute(ConditionalGetInterceptor.VERSION_ATTRIBUTE);
+        long version = versionAttribute != null ? (Long) versionAttribute : resourceVersions.current(resource);
+
+        ResponseCache.CachedResponse cached;
+        try {
+            cached = serialize(body, version, selectedContentType);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not pre-serialize response, falling back to the message converter: {}", e.getMessage());
+            return body;
+        }
+        responseCache.put(ConditionalGetInterceptor.cacheKey(resource, httpRequest), cached);
+
+        try {
+            ConditionalGetInterceptor.write(cached, httpRequest, servletResponse.getServletResponse());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Already written, nothing left for the message converter to do
+        return null;
+    }
+
+    private ResponseCache.CachedResponse serialize(Object body, long version, MediaType contentType)
+            throws JsonProcessingException {
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        byte[] gzip = json.length >= gzipMinBytes ? gzip(json) : null;
+        String hash = hash(json);
+        return new ResponseCache.CachedResponse(version, '"' + hash + '"', contentType.toString(), json, gzip,
+                gzip != null ? "\"" + hash + "-gz\"" : null);
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
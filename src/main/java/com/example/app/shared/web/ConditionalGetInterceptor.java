@@ -0,0 +1,118 @@
+package com.example.app.shared.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+
+/**
+ * Serves {@link ConditionalGet} handlers from the {@link ResponseCache} before the controller runs.
+ *
+ * <p>When a response is cached for the current resource version, a matching {@code If-None-Match}
+ * gets {@code 304 Not Modified} and any other request gets the cached bytes (gzipped if accepted)
+ * written straight to the servlet output stream. The identity and gzip bytes carry different
+ * ETags, so a cache holding one representation never revalidates it as the other. Neither case queries or serializes anything.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    static final String VERSION_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".version";
+
+    private final ResourceVersions resourceVersions;
+    private final ResponseCache responseCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!"GET".equals(request.getMethod()) || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        // Read the version before the controller reads the data, so a concurrent write can only make
+        // the cached response stale, never attach a new version to old data
+        long version = resourceVersions.current(conditionalGet.value());
+        request.setAttribute(VERSION_ATTRIBUTE, version);
+
+        ResponseCache.CachedResponse cached = responseCache.get(cacheKey(conditionalGet.value(), request), version);
+        if (cached == null) {
+            return true;
+        }
+        write(cached, request, response);
+        return false;
+    }
+
+    /**
+     * Write a cached response, or just its headers with 304 when the client already holds it.
+     */
+    static void write(ResponseCache.CachedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        boolean gzip = cached.getGzipBody() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? cached.getGzipEtag() : cached.getEtag();
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = cached.getBody();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = cached.getGzipBody();
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.getContentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+
+    static String cacheKey(String resource, HttpServletRequest request) {
+        String query = request.getQueryString();
+        return resource + ' ' + request.getRequestURI() + (query != null ? '?' + query : "");
+    }
+
+    /**
+     * Weak comparison as required for If-None-Match: a "W/" prefix on either side is ignored.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeak(trimmed).equals(stripWeak(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" explicitly refuses gzip
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.app.shared.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry of resource versions used by {@link ConditionalGet} endpoints.
+ *
+ * <p>Modules whose data is only written through the application register a version that changes
+ * on every committed write. Resources without a registered version (e.g. data edited directly in
+ * the database) get a version that rolls over every {@code app.http.conditional-get.unmanaged-ttl-ms},
+ * which bounds how long clients can keep a stale copy.
+ */
+@Component
+public class ResourceVersions {
+
+    @Value("${app.http.conditional-get.unmanaged-ttl-ms:60000}")
+    private long unmanagedTtlMs;
+
+    private final Map<String, LongSupplier> versions = new ConcurrentHashMap<>();
+
+    public void register(String resource, LongSupplier version) {
+        versions.put(resource, version);
+    }
+
+    public long current(String resource) {
+        LongSupplier version = versions.get(resource);
+        return version != null ? version.getAsLong() : System.currentTimeMillis() / unmanagedTtlMs;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.app.shared.web;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU of fully serialized {@link ConditionalGet} responses, keyed by resource and request.
+ *
+ * <p>Each entry holds the final UTF-8 JSON bytes, a gzip variant for larger bodies and the strong
+ * ETag of the payload. An entry is only valid while the resource version it was built for is still
+ * current, so the domain write hooks that bump a version also invalidate every cached response.
+ */
+@Component
+public class ResponseCache {
+
+    @Value("${app.http.response-cache.max-entries:1000}")
+    private int maxEntries;
+
+    private final Map<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /**
+     * @return the response cached for this key at the given version, or null if none
+     */
+    public CachedResponse get(String key, long version) {
+        synchronized (entries) {
+            CachedResponse entry = entries.get(key);
+            return entry != null && entry.version == version ? entry : null;
+        }
+    }
+
+    public void put(String key, CachedResponse response) {
+        synchronized (entries) {
+            entries.put(key, response);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedResponse {
+        private final long version;
+        private final String etag;
+        private final String contentType;
+        private final byte[] body;
+        // Null when the body is too small to be worth compressing
+        private final byte[] gzipBody;
+        // A strong ETag names one representation, so the gzip bytes get their own
+        private final String gzipEtag;
+    }
+}
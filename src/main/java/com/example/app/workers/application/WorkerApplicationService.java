@@ -0,0 +1,22 @@
+package com.example.app.workers.application;
+
+import com.example.app.auth.domain.User;
+
+/**
+ * Public Application Service Interface for Workers Module
+ * 
+ * <p>Other modules should use this interface to keep worker search data in sync
+ * when they write users.
+ * 
+ * <p><b>Module Boundary:</b> This is the public contract for cross-module communication.
+ */
+public interface WorkerApplicationService {
+
+    /**
+     * Refresh the worker skill table and in-memory directory after a user was created or edited.
+     * Users without the WORKER role are ignored, or removed if they used to be workers.
+     * 
+     * @param user the saved user, with its id assigned
+     */
+    void userSaved(User user);
+}
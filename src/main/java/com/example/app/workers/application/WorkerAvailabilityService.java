@@ -6,11 +6,17 @@ import com.example.app.orders.domain.Order;
 import com.example.app.orders.repository.OrderRepository;
 import com.example.app.workers.repository.WorkerRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +25,10 @@ public class WorkerAvailabilityService {
 
     private final WorkerRepository workerRepository;
     private final OrderRepository orderRepository;
+    private final WorkerBookingIndex workerBookingIndex;
+
+    @Value("${app.workers.availability.source:index}")
+    private String availabilitySource;
 
     /**
      * Check if a worker is available for a given time slot
@@ -53,6 +63,56 @@ public class WorkerAvailabilityService {
         return conflictingOrders.isEmpty();
     }
 
+    /**
+     * Resolve availability for many known workers at once, either from the in-memory booking index
+     * or with a single bulk conflict query ({@code app.workers.availability.source=index|database}).
+     * The database is also used until the index has been loaded.
+     *
+     * @param workerIds ids of users already known to have the WORKER role
+     * @param scheduledAt the scheduled time (can be null for general availability)
+     * @param durationMinutes the duration in minutes (default 120)
+     * @return the subset of workerIds that are free for the slot
+     */
+    public Set<Long> findAvailableWorkerIds(Collection<Long> workerIds, LocalDateTime scheduledAt, Integer durationMinutes) {
+        if (scheduledAt == null || workerIds.isEmpty()) {
+            return new HashSet<>(workerIds);
+        }
+
+        int duration = durationMinutes != null ? durationMinutes : 120; // Default 2 hours
+        LocalDateTime endTime = scheduledAt.plusMinutes(duration);
+
+        boolean useIndex = "index".equalsIgnoreCase(availabilitySource) && workerBookingIndex.isLoaded();
+        Collection<Long> busy = useIndex
+                ? workerBookingIndex.findBusyWorkers(workerIds, scheduledAt, endTime)
+                : new HashSet<>(orderRepository.findBusyWorkerIds(workerIds, scheduledAt, endTime, WorkerBookingIndex.ACTIVE_STATUSES));
+        return workerIds.stream()
+                .filter(workerId -> !busy.contains(workerId))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Check availability while holding a row lock on the worker, for use right before saving a booking.
+     * Must run inside the booking's read-write transaction so the lock is held until commit.
+     *
+     * @param workerId the worker ID
+     * @param scheduledAt the scheduled time (can be null for general availability)
+     * @param durationMinutes the duration in minutes (default 120)
+     * @return true if worker is available, false otherwise
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean lockAndCheckAvailability(Long workerId, LocalDateTime scheduledAt, Integer durationMinutes) {
+        if (workerRepository.findByIdAndRoleForUpdate(workerId, Role.WORKER).isEmpty()) {
+            return false;
+        }
+        if (scheduledAt == null) {
+            return true;
+        }
+
+        int duration = durationMinutes != null ? durationMinutes : 120; // Default 2 hours
+        return orderRepository.findConflictingOrdersForWorker(workerId, scheduledAt, scheduledAt.plusMinutes(duration),
+                List.copyOf(WorkerBookingIndex.ACTIVE_STATUSES)).isEmpty();
+    }
+
     /**
      * Check if a worker is available for a given time slot
      * Overload method for convenience
@@ -0,0 +1,213 @@
+package com.example.app.workers.application;
+
+import com.example.app.orders.domain.Order;
+import com.example.app.orders.repository.OrderRepository;
+import com.example.app.shared.util.AfterCommit;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of active worker bookings, used to answer availability searches without SQL.
+ *
+ * <p>Each worker has a sorted set of booked intervals. An overlap check only scans the bookings
+ * that start within {@code [start - longestBooking, end)}, so a search across every worker runs
+ * in microseconds. The index is loaded at startup and patched after each committed order write on
+ * this instance. Writes made elsewhere (another instance, direct SQL) are picked up by a periodic
+ * check that re-applies every order whose updated_at moved since the previous check; deletes are
+ * only seen by the full reload every {@code max-age-ms}. The booking itself is still validated
+ * against the database in {@code OrderService}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkerBookingIndex {
+
+    static final Set<Order.OrderStatus> ACTIVE_STATUSES =
+            EnumSet.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED, Order.OrderStatus.IN_PROGRESS);
+
+    // Each check re-reads this far back, covering commit delays and clock skew between instances
+    private static final long CHECK_OVERLAP_MINUTES = 1;
+
+    private final OrderRepository orderRepository;
+
+    @Value("${app.workers.availability.max-age-ms:600000}")
+    private long maxAgeMs;
+
+    private volatile Index index;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Index loaded = new Index(startedAt, System.currentTimeMillis());
+        List<Order> orders = orderRepository.findByWorkerIdIsNotNullAndScheduledAtIsNotNullAndStatusIn(ACTIVE_STATUSES);
+        orders.forEach(order -> loaded.apply(Booking.of(order)));
+        index = loaded;
+        log.info("Worker booking index loaded with {} active bookings", loaded.bookingsByOrderId.size());
+    }
+
+    public boolean isLoaded() {
+        return index != null;
+    }
+
+    /**
+     * Apply orders changed on other instances since the previous check, and reload the whole index
+     * once it reaches its maximum age.
+     */
+    @Scheduled(initialDelayString = "${app.workers.availability.check-interval-ms:5000}",
+            fixedDelayString = "${app.workers.availability.check-interval-ms:5000}")
+    public synchronized void checkForChanges() {
+        Index current = index;
+        if (current == null) {
+            return;
+        }
+        if (System.currentTimeMillis() - current.loadedAt >= maxAgeMs) {
+            load();
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Order> changed = orderRepository.findByUpdatedAtGreaterThanEqual(
+                current.checkedAt.minusMinutes(CHECK_OVERLAP_MINUTES));
+        // Re-applying an order this instance already has is a no-op
+        changed.forEach(order -> current.apply(Booking.of(order)));
+        current.checkedAt = startedAt;
+    }
+
+    /**
+     * Find which of the given workers have an active booking overlapping {@code [start, end)}.
+     */
+    public Set<Long> findBusyWorkers(Collection<Long> workerIds, LocalDateTime start, LocalDateTime end) {
+        Map<Long, WorkerSchedule> schedules = index.schedules;
+        Set<Long> busy = new HashSet<>();
+        for (Long workerId : workerIds) {
+            WorkerSchedule schedule = schedules.get(workerId);
+            if (schedule != null && schedule.overlaps(start, end)) {
+                busy.add(workerId);
+            }
+        }
+        return busy;
+    }
+
+    /**
+     * Reflect a created or updated order once the surrounding transaction commits.
+     */
+    public void onOrderSaved(Order order) {
+        Booking booking = Booking.of(order);
+        AfterCommit.run(() -> {
+            Index current = index;
+            if (current != null) {
+                current.apply(booking);
+            }
+        });
+    }
+
+    /**
+     * Remove a deleted order once the surrounding transaction commits.
+     */
+    public void onOrderDeleted(Long orderId) {
+        AfterCommit.run(() -> {
+            Index current = index;
+            if (current != null) {
+                current.remove(orderId);
+            }
+        });
+    }
+
+    private static class Index {
+        private final Map<Long, WorkerSchedule> schedules = new ConcurrentHashMap<>();
+        private final Map<Long, Booking> bookingsByOrderId = new ConcurrentHashMap<>();
+        private final long loadedAt;
+        // Orders updated at or after this (minus the overlap) are re-read by the next check
+        private volatile LocalDateTime checkedAt;
+
+        Index(LocalDateTime checkedAt, long loadedAt) {
+            this.checkedAt = checkedAt;
+            this.loadedAt = loadedAt;
+        }
+
+        synchronized void apply(Booking booking) {
+            remove(booking.orderId);
+            if (booking.isActive()) {
+                bookingsByOrderId.put(booking.orderId, booking);
+                schedules.computeIfAbsent(booking.workerId, id -> new WorkerSchedule()).add(booking);
+            }
+        }
+
+        synchronized void remove(Long orderId) {
+            Booking previous = bookingsByOrderId.remove(orderId);
+            if (previous != null) {
+                WorkerSchedule schedule = schedules.get(previous.workerId);
+                if (schedule != null) {
+                    schedule.remove(previous);
+                }
+            }
+        }
+    }
+
+    private static class WorkerSchedule {
+        private final NavigableSet<Booking> bookings = new TreeSet<>(
+                Comparator.comparing((Booking b) -> b.start).thenComparing(b -> b.orderId));
+        private long longestMinutes;
+
+        synchronized void add(Booking booking) {
+            bookings.add(booking);
+            longestMinutes = Math.max(longestMinutes, booking.durationMinutes);
+        }
+
+        synchronized void remove(Booking booking) {
+            bookings.remove(booking);
+        }
+
+        synchronized boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            // Only bookings starting after (start - longest booking) can still be running at start
+            Booking from = new Booking(Long.MIN_VALUE, null, start.minusMinutes(longestMinutes), 0, null);
+            Booking to = new Booking(Long.MIN_VALUE, null, end, 0, null);
+            for (Booking booking : bookings.subSet(from, true, to, false)) {
+                if (booking.end().isAfter(start)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Booking {
+        private final Long orderId;
+        private final Long workerId;
+        private final LocalDateTime start;
+        private final long durationMinutes;
+        private final Order.OrderStatus status;
+
+        static Booking of(Order order) {
+            long duration = order.getDurationMinutes() != null ? order.getDurationMinutes() : 0;
+            return new Booking(order.getId(), order.getWorkerId(), order.getScheduledAt(), duration, order.getStatus());
+        }
+
+        boolean isActive() {
+            // Matches the database check, which ignores orders without a schedule
+            return workerId != null && start != null && durationMinutes > 0 && ACTIVE_STATUSES.contains(status);
+        }
+
+        LocalDateTime end() {
+            return start.plusMinutes(durationMinutes);
+        }
+    }
+}
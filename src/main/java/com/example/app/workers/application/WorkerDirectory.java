@@ -0,0 +1,258 @@
+package com.example.app.workers.application;
+
+import com.example.app.auth.domain.Role;
+import com.example.app.auth.domain.User;
+import com.example.app.shared.util.AfterCommit;
+import com.example.app.shared.util.TextNormalizer;
+import com.example.app.workers.dto.WorkerDto;
+import com.example.app.workers.repository.WorkerRepository;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory roster of all workers with an inverted index from folded skill tokens to worker ids,
+ * so public worker searches are answered without touching the database.
+ *
+ * <p>Each query token matches every indexed token it is a prefix of ("dien" finds "dien"); when
+ * nothing matches, tokens within one edit are tried instead ("dein" finds "dien"). A worker must
+ * match every query token. The roster is loaded at startup; writes swap in a new immutable
+ * snapshot after commit, so reads never lock. Users changed elsewhere (another instance, direct
+ * SQL) are picked up by a periodic check of the rows whose updated_at moved since the previous
+ * check; deleted users are only dropped by the full reload every {@code max-age-ms}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkerDirectory {
+
+    // Shorter tokens would match too much with a one-letter typo
+    private static final int FUZZY_MIN_LENGTH = 4;
+
+    // Each check re-reads this far back, covering commit delays and clock skew between instances
+    private static final long CHECK_OVERLAP_MINUTES = 1;
+
+    private final WorkerRepository workerRepository;
+
+    @Value("${app.workers.directory.max-age-ms:600000}")
+    private long maxAgeMs;
+
+    private volatile Snapshot snapshot;
+    private long loadedAt;
+    // Users updated at or after this (minus the overlap) are re-read by the next check
+    private LocalDateTime checkedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<User> workers = workerRepository.findByRole(Role.WORKER);
+        Map<Long, WorkerDto> byId = new TreeMap<>();
+        workers.forEach(worker -> byId.put(worker.getId(), toEntry(worker)));
+        snapshot = Snapshot.of(byId);
+        loadedAt = System.currentTimeMillis();
+        checkedAt = startedAt;
+        log.info("Worker directory loaded with {} workers and {} skill tokens", byId.size(), snapshot.index.size());
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Apply users changed on other instances since the previous check, and reload the whole roster
+     * once it reaches its maximum age.
+     */
+    @Scheduled(initialDelayString = "${app.workers.directory.check-interval-ms:5000}",
+            fixedDelayString = "${app.workers.directory.check-interval-ms:5000}")
+    public synchronized void checkForChanges() {
+        if (snapshot == null) {
+            return;
+        }
+        if (System.currentTimeMillis() - loadedAt >= maxAgeMs) {
+            load();
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<User> changed = workerRepository.findByUpdatedAtGreaterThanEqual(checkedAt.minusMinutes(CHECK_OVERLAP_MINUTES));
+        Map<Long, WorkerDto> entries = new HashMap<>();
+        changed.forEach(user -> entries.put(user.getId(), user.getRole() == Role.WORKER ? toEntry(user) : null));
+        replace(entries);
+        checkedAt = startedAt;
+    }
+
+    /**
+     * Search workers by skill text. A blank query returns every worker.
+     *
+     * @return fresh DTO copies ordered by id, safe for the caller to modify
+     */
+    public List<WorkerDto> search(String query) {
+        Snapshot current = snapshot;
+        List<String> tokens = TextNormalizer.tokens(query);
+        if (tokens.isEmpty()) {
+            return copies(current.workers.values());
+        }
+
+        Set<Long> matches = null;
+        for (String token : tokens) {
+            Set<Long> ids = current.match(token);
+            if (matches == null) {
+                matches = new TreeSet<>(ids);
+            } else {
+                matches.retainAll(ids);
+            }
+            if (matches.isEmpty()) {
+                return List.of();
+            }
+        }
+        return matches.stream()
+                .map(id -> copy(current.workers.get(id)))
+                .collect(Collectors.toList());
+    }
+
+    public Optional<WorkerDto> findById(Long id) {
+        return Optional.ofNullable(snapshot.workers.get(id)).map(WorkerDirectory::copy);
+    }
+
+    /**
+     * Reflect a created or edited user once the surrounding transaction commits.
+     * A user that is no longer a worker is removed.
+     */
+    public void onUserSaved(User user) {
+        Long id = user.getId();
+        WorkerDto entry = user.getRole() == Role.WORKER ? toEntry(user) : null;
+        Map<Long, WorkerDto> entries = new HashMap<>();
+        entries.put(id, entry);
+        AfterCommit.run(() -> replace(entries));
+    }
+
+    /**
+     * Swap in a snapshot with the given entries, a null entry removing that id. Entries equal to
+     * the current ones (re-read by an overlapping check) leave the snapshot as it is.
+     */
+    private synchronized void replace(Map<Long, WorkerDto> entries) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Not loaded yet, load() will read the committed rows
+            return;
+        }
+        Map<Long, WorkerDto> byId = null;
+        for (Map.Entry<Long, WorkerDto> entry : entries.entrySet()) {
+            if (Objects.equals(current.workers.get(entry.getKey()), entry.getValue())) {
+                continue;
+            }
+            if (byId == null) {
+                byId = new TreeMap<>(current.workers);
+            }
+            if (entry.getValue() == null) {
+                byId.remove(entry.getKey());
+            } else {
+                byId.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (byId != null) {
+            snapshot = Snapshot.of(byId);
+        }
+    }
+
+    private static WorkerDto toEntry(User user) {
+        return WorkerDto.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .phone(user.getPhone())
+                .avatarUrl(user.getAvatarUrl())
+                .skills(user.getSkills())
+                .build();
+    }
+
+    private static List<WorkerDto> copies(Collection<WorkerDto> entries) {
+        List<WorkerDto> result = new ArrayList<>(entries.size());
+        entries.forEach(entry -> result.add(copy(entry)));
+        return result;
+    }
+
+    private static WorkerDto copy(WorkerDto entry) {
+        return WorkerDto.builder()
+                .id(entry.getId())
+                .username(entry.getUsername())
+                .firstName(entry.getFirstName())
+                .lastName(entry.getLastName())
+                .phone(entry.getPhone())
+                .avatarUrl(entry.getAvatarUrl())
+                .skills(entry.getSkills())
+                .build();
+    }
+
+    /**
+     * Returns true if {@code a} can be turned into {@code b} with at most one insertion, deletion or substitution.
+     */
+    static boolean withinOneEdit(String a, String b) {
+        int lengthDiff = a.length() - b.length();
+        if (Math.abs(lengthDiff) > 1) {
+            return false;
+        }
+        String shorter = lengthDiff <= 0 ? a : b;
+        String longer = lengthDiff <= 0 ? b : a;
+        int i = 0;
+        while (i < shorter.length() && shorter.charAt(i) == longer.charAt(i)) {
+            i++;
+        }
+        if (i == shorter.length()) {
+            return true;
+        }
+        // Skip the differing character in the longer string, and in both when the lengths are equal
+        int j = shorter.length() == longer.length() ? i + 1 : i;
+        return shorter.substring(j).equals(longer.substring(i + 1));
+    }
+
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final Map<Long, WorkerDto> workers;
+        private final NavigableMap<String, Set<Long>> index;
+
+        static Snapshot of(Map<Long, WorkerDto> workers) {
+            NavigableMap<String, Set<Long>> index = new TreeMap<>();
+            workers.values().forEach(worker -> {
+                for (String token : TextNormalizer.tokens(worker.getSkills())) {
+                    index.computeIfAbsent(token, t -> new HashSet<>()).add(worker.getId());
+                }
+            });
+            return new Snapshot(workers, index);
+        }
+
+        Set<Long> match(String token) {
+            Set<Long> ids = new HashSet<>();
+            // Every indexed token starting with the query token sorts in [token, token + MAX_VALUE)
+            index.subMap(token, true, token + Character.MAX_VALUE, false).values().forEach(ids::addAll);
+            if (ids.isEmpty() && token.length() >= FUZZY_MIN_LENGTH) {
+                index.forEach((indexed, workerIds) -> {
+                    if (withinOneEdit(token, indexed)) {
+                        ids.addAll(workerIds);
+                    }
+                });
+            }
+            return ids;
+        }
+    }
+}
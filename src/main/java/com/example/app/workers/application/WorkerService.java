@@ -2,55 +2,75 @@ package com.example.app.workers.application;
 
 import com.example.app.auth.domain.Role;
 import com.example.app.auth.domain.User;
+import com.example.app.shared.util.TextNormalizer;
 import com.example.app.workers.dto.WorkerDto;
 import com.example.app.workers.repository.WorkerRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class WorkerService {
+public class WorkerService implements WorkerApplicationService {
 
     private final WorkerRepository workerRepository;
     private final WorkerAvailabilityService workerAvailabilityService;
+    private final WorkerSkillService workerSkillService;
+    private final WorkerDirectory workerDirectory;
 
-    public List<WorkerDto> getWorkers(String serviceType) {
-        String skillFragment = (serviceType == null || serviceType.trim().isEmpty()) ? "" : serviceType.trim();
-        List<User> workers;
-
-        if (skillFragment.isEmpty()) {
-            workers = workerRepository.findByRole(Role.WORKER);
-        } else {
-            // Try the custom query for better JSON handling
-            workers = workerRepository.findWorkersBySkill(Role.WORKER, skillFragment);
-            // If no results, fall back to simple text search
-            if (workers.isEmpty()) {
-                workers = workerRepository.findByRoleAndSkillsContaining(Role.WORKER, skillFragment);
-            }
-        }
+    @Value("${app.workers.directory.enabled:true}")
+    private boolean directoryEnabled;
 
-        return workers.stream()
-                .map(user -> {
-                    WorkerDto dto = mapToWorkerDto(user);
-                    // For general availability (no specific time), assume workers are available
-                    dto.setAvailable(true);
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public List<WorkerDto> getWorkers(String serviceType) {
+        List<WorkerDto> workers = findWorkersBySkill(serviceType);
+        // For general availability (no specific time), assume workers are available
+        workers.forEach(dto -> dto.setAvailable(true));
+        return workers;
     }
 
     public Optional<WorkerDto> getWorkerById(Long id) {
+        if (useDirectory()) {
+            return workerDirectory.findById(id);
+        }
         return workerRepository.findByIdAndRole(id, Role.WORKER)
                 .map(this::mapToWorkerDto);
     }
 
+    @Override
+    @Transactional
+    public void userSaved(User user) {
+        if (user.getRole() == Role.WORKER) {
+            workerSkillService.syncSkills(user);
+        }
+        workerDirectory.onUserSaved(user);
+    }
+
+    private boolean useDirectory() {
+        return directoryEnabled && workerDirectory.isLoaded();
+    }
+
+    private List<WorkerDto> findWorkersBySkill(String serviceType) {
+        if (useDirectory()) {
+            return workerDirectory.search(serviceType);
+        }
+        // "Sửa điện" and "sua dien" both fold to "sua dien"; punctuation-only input means no filter
+        String normalized = TextNormalizer.fold(serviceType);
+        List<User> workers = normalized.isEmpty()
+                ? workerRepository.findByRole(Role.WORKER)
+                : workerRepository.findWorkersBySkillPrefix(Role.WORKER, normalized);
+        return workers.stream()
+                .map(this::mapToWorkerDto)
+                .collect(Collectors.toList());
+    }
+
     private WorkerDto mapToWorkerDto(User user) {
         return WorkerDto.builder()
                 .id(user.getId())
@@ -72,29 +92,13 @@ public class WorkerService {
      * @return list of workers with availability status
      */
     public List<WorkerDto> getWorkersWithAvailability(String serviceType, LocalDateTime scheduledAt, Integer durationMinutes) {
-        String skillFragment = (serviceType == null || serviceType.trim().isEmpty()) ? "" : serviceType.trim();
-        List<User> workers;
+        List<WorkerDto> workers = findWorkersBySkill(serviceType);
 
-        if (skillFragment.isEmpty()) {
-            workers = workerRepository.findByRole(Role.WORKER);
-        } else {
-            // Try the custom query for better JSON handling
-            workers = workerRepository.findWorkersBySkill(Role.WORKER, skillFragment);
-            // If no results, fall back to simple text search
-            if (workers.isEmpty()) {
-                workers = workerRepository.findByRoleAndSkillsContaining(Role.WORKER, skillFragment);
-            }
-        }
+        // Resolve availability for all candidates at once instead of two queries per worker
+        Set<Long> availableIds = workerAvailabilityService.findAvailableWorkerIds(
+                workers.stream().map(WorkerDto::getId).collect(Collectors.toList()), scheduledAt, durationMinutes);
 
-        return workers.stream()
-                .map(user -> {
-                    WorkerDto dto = mapToWorkerDto(user);
-                    // Check availability for the specific time slot
-                    boolean isAvailable = workerAvailabilityService.isWorkerAvailable(
-                            user.getId(), scheduledAt, durationMinutes);
-                    dto.setAvailable(isAvailable);
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        workers.forEach(dto -> dto.setAvailable(availableIds.contains(dto.getId())));
+        return workers;
     }
 }
@@ -0,0 +1,69 @@
+package com.example.app.workers.application;
+
+import com.example.app.auth.domain.User;
+import com.example.app.shared.util.TextNormalizer;
+import com.example.app.workers.domain.WorkerSkill;
+import com.example.app.workers.repository.WorkerSkillRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Write path for the {@code worker_skills} search table.
+ * Call {@link #syncSkills(User)} whenever a worker's {@code skills} column is written.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkerSkillService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final WorkerSkillRepository workerSkillRepository;
+
+    @Transactional
+    public void syncSkills(User worker) {
+        workerSkillRepository.deleteByUserId(worker.getId());
+        // Make the deletes visible before re-inserting rows with the same key
+        workerSkillRepository.flush();
+        workerSkillRepository.saveAll(termsOf(worker.getSkills()).stream()
+                .map(term -> new WorkerSkill(term, worker.getId()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Searchable terms of a {@code skills} value: a JSON array of names, or a comma-separated list.
+     */
+    public static Set<String> termsOf(String skills) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String skill : parseSkills(skills)) {
+            for (String term : TextNormalizer.suffixTerms(skill)) {
+                terms.add(term.length() > WorkerSkill.MAX_LENGTH ? term.substring(0, WorkerSkill.MAX_LENGTH).trim() : term);
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> parseSkills(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return List.of();
+        }
+        String trimmed = skills.trim();
+        if (trimmed.startsWith("[")) {
+            try {
+                return OBJECT_MAPPER.readValue(trimmed, new TypeReference<List<String>>() {});
+            } catch (JsonProcessingException e) {
+                // Not valid JSON after all, treat it as plain text
+            }
+        }
+        return Arrays.asList(trimmed.split(","));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.app.workers.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * One searchable term of a worker's skills, accent-folded by {@code TextNormalizer}.
+ * Kept in sync with {@code auth_users.skills} by {@code WorkerSkillService}.
+ */
+@Entity
+@Table(name = "worker_skills")
+@IdClass(WorkerSkill.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkerSkill {
+
+    public static final int MAX_LENGTH = 191;
+
+    @Id
+    @Column(name = "skill_normalized", nullable = false, length = MAX_LENGTH)
+    private String skillNormalized;
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String skillNormalized;
+        private Long userId;
+    }
+}
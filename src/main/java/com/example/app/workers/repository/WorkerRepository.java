@@ -2,11 +2,14 @@ package com.example.app.workers.repository;
 
 import com.example.app.auth.domain.Role;
 import com.example.app.auth.domain.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,12 +22,19 @@ public interface WorkerRepository extends JpaRepository<User, Long> {
     // Find workers by skills containing a keyword
     List<User> findByRoleAndSkillsContaining(Role role, String skillFragment);
 
+    // Users changed since the given time, whatever their role (used to refresh the worker directory)
+    List<User> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
     // Find worker by ID and role (to ensure it's a worker)
     Optional<User> findByIdAndRole(Long id, Role role);
 
-    // Custom query to find workers with skills containing a specific skill
-    @Query("SELECT u FROM User u WHERE u.role = :role AND " +
-           "(u.skills LIKE CONCAT('%', :skill, '%') OR " +
-           "JSON_SEARCH(u.skills, 'one', :skill) IS NOT NULL)")
-    List<User> findWorkersBySkill(@Param("role") Role role, @Param("skill") String skill);
+    // Lock the worker row (SELECT ... FOR UPDATE) so concurrent bookings for one worker serialize
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id AND u.role = :role")
+    Optional<User> findByIdAndRoleForUpdate(@Param("id") Long id, @Param("role") Role role);
+
+    // Indexed prefix lookup on the accent-folded skill terms in worker_skills
+    @Query("SELECT u FROM User u WHERE u.role = :role AND u.id IN " +
+           "(SELECT s.userId FROM WorkerSkill s WHERE s.skillNormalized LIKE CONCAT(:prefix, '%'))")
+    List<User> findWorkersBySkillPrefix(@Param("role") Role role, @Param("prefix") String normalizedPrefix);
 }
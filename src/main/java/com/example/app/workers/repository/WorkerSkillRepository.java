@@ -0,0 +1,16 @@
+package com.example.app.workers.repository;
+
+import com.example.app.workers.domain.WorkerSkill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkerSkillRepository extends JpaRepository<WorkerSkill, WorkerSkill.Key> {
+
+    @Modifying
+    @Query("DELETE FROM WorkerSkill s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,95 @@
+package db.migration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Fill {@code worker_skills} from the existing {@code auth_users.skills} values.
+ *
+ * <p>Accent folding cannot be expressed in SQL, so the terms are built here. The logic is a frozen
+ * copy of {@code WorkerSkillService.termsOf} and {@code TextNormalizer} as of this migration: Java
+ * migrations have no checksum, so it must never call application code that may change later.
+ */
+public class V22__Backfill_worker_skills extends BaseJavaMigration {
+
+    private static final int MAX_LENGTH = 191;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement select = context.getConnection().createStatement();
+             ResultSet users = select.executeQuery(
+                     "SELECT id, skills FROM auth_users WHERE skills IS NOT NULL AND skills <> ''");
+             PreparedStatement insert = context.getConnection().prepareStatement(
+                     "INSERT IGNORE INTO worker_skills (skill_normalized, user_id) VALUES (?, ?)")) {
+            while (users.next()) {
+                long userId = users.getLong("id");
+                for (String term : termsOf(users.getString("skills"))) {
+                    insert.setString(1, term);
+                    insert.setLong(2, userId);
+                    insert.addBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static Set<String> termsOf(String skills) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String skill : parseSkills(skills)) {
+            String[] tokens = fold(skill).split(" ");
+            if (tokens.length == 1 && tokens[0].isEmpty()) {
+                continue;
+            }
+            // Every word suffix: "sua dien", "dien"
+            for (int i = 0; i < tokens.length; i++) {
+                String term = String.join(" ", Arrays.asList(tokens).subList(i, tokens.length));
+                terms.add(term.length() > MAX_LENGTH ? term.substring(0, MAX_LENGTH).trim() : term);
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> parseSkills(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return List.of();
+        }
+        String trimmed = skills.trim();
+        if (trimmed.startsWith("[")) {
+            try {
+                return OBJECT_MAPPER.readValue(trimmed, new TypeReference<List<String>>() {});
+            } catch (JsonProcessingException e) {
+                // Not valid JSON after all, treat it as plain text
+            }
+        }
+        return Arrays.asList(trimmed.split(","));
+    }
+
+    private static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                // đ/Đ is a separate letter, not a base letter plus a combining mark
+                .replace('\u0111', 'd')
+                .replace('\u0110', 'D');
+        return NON_ALPHANUMERIC.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
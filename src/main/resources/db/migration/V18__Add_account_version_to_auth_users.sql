@@ -0,0 +1,4 @@
+-- Account-state version, bumped whenever an admin blocks or unblocks a user.
+-- Access tokens carry the version they were issued with so stale tokens can be revoked.
+ALTER TABLE auth_users
+    ADD COLUMN IF NOT EXISTS account_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,19 @@
+-- Incrementally maintained dashboard counters (used when app.admin.stats-counters.enabled=true)
+CREATE TABLE IF NOT EXISTS admin_stats_counters (
+    counter_key VARCHAR(64) PRIMARY KEY,
+    counter_value BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Seed from current data
+INSERT INTO admin_stats_counters (counter_key, counter_value)
+SELECT CONCAT('users.', role), COUNT(*) FROM auth_users WHERE role IS NOT NULL GROUP BY role
+ON DUPLICATE KEY UPDATE counter_value = VALUES(counter_value);
+
+INSERT INTO admin_stats_counters (counter_key, counter_value)
+SELECT CONCAT('orders.', status), COUNT(*) FROM orders_orders GROUP BY status
+ON DUPLICATE KEY UPDATE counter_value = VALUES(counter_value);
+
+INSERT INTO admin_stats_counters (counter_key, counter_value)
+SELECT 'services', COUNT(*) FROM services_services
+ON DUPLICATE KEY UPDATE counter_value = VALUES(counter_value);
@@ -0,0 +1,9 @@
+-- Store the end of each booking so overlap checks can use an index instead of
+-- computing DATE_ADD(scheduled_at, INTERVAL duration_minutes MINUTE) per row.
+ALTER TABLE orders_orders ADD COLUMN scheduled_end TIMESTAMP NULL AFTER duration_minutes;
+
+UPDATE orders_orders
+SET scheduled_end = TIMESTAMPADD(MINUTE, duration_minutes, scheduled_at)
+WHERE scheduled_at IS NOT NULL AND duration_minutes IS NOT NULL;
+
+ALTER TABLE orders_orders ADD INDEX idx_worker_schedule (worker_id, scheduled_at, scheduled_end);
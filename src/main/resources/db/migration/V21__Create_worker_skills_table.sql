@@ -0,0 +1,11 @@
+-- Accent-folded skill terms per worker, so skill search is an index range scan
+-- instead of LIKE '%...%' / JSON_SEARCH over auth_users.skills.
+-- Each skill is stored once per word suffix ("sua dien", "dien") so a prefix
+-- lookup matches from any word. Backfilled by V22__Backfill_worker_skills.
+CREATE TABLE IF NOT EXISTS worker_skills (
+    skill_normalized VARCHAR(191) NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (skill_normalized, user_id),
+    INDEX idx_user_id (user_id),
+    FOREIGN KEY (user_id) REFERENCES auth_users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin;
@@ -0,0 +1,6 @@
+-- Indexes backing the newest-first keyset (cursor) pages. InnoDB appends the primary key to every
+-- secondary index, so (user_id, created_at) also orders ties by id.
+ALTER TABLE orders_orders ADD INDEX idx_user_created_at (user_id, created_at);
+ALTER TABLE orders_orders ADD INDEX idx_created_at (created_at);
+ALTER TABLE auth_users ADD INDEX idx_created_at (created_at);
+ALTER TABLE loyalty_points_transactions ADD INDEX idx_user_created_at (user_id, created_at);
@@ -0,0 +1,7 @@
+-- Back every whitelisted sort field (see SortableFields) with an index, so ORDER BY ... LIMIT
+-- reads the index in order instead of filesorting the table.
+-- (user_id, created_at) on orders_orders was added in V23.
+ALTER TABLE news_articles ADD INDEX idx_published_created_at (published, created_at);
+ALTER TABLE services_services ADD INDEX idx_name (name);
+ALTER TABLE services_services ADD INDEX idx_base_price (base_price);
+ALTER TABLE services_services ADD INDEX idx_created_at (created_at);
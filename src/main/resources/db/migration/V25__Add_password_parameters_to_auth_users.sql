@@ -0,0 +1,11 @@
+-- Hash algorithm and cost per user, maintained by the application from the stored hash,
+-- so stale hashes can be counted while they are upgraded on login.
+ALTER TABLE auth_users
+    ADD COLUMN IF NOT EXISTS password_algorithm VARCHAR(20) NULL,
+    ADD COLUMN IF NOT EXISTS password_cost VARCHAR(50) NULL;
+
+-- Every existing hash is an unprefixed BCrypt hash: $2a$<cost>$...
+UPDATE auth_users
+SET password_algorithm = 'bcrypt',
+    password_cost = SUBSTRING(password, 5, 2)
+WHERE password LIKE '$2%' AND password_algorithm IS NULL;
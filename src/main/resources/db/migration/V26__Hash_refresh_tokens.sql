@@ -0,0 +1,22 @@
+-- Store refresh tokens as a 32-byte SHA-256 digest instead of the full JWT, and group every
+-- token issued by one login and its rotations under a family id so a replayed token can
+-- revoke the whole chain.
+ALTER TABLE auth_refresh_tokens
+    ADD COLUMN IF NOT EXISTS token_hash BINARY(32) NULL,
+    ADD COLUMN IF NOT EXISTS family_id BINARY(16) NULL;
+
+-- Existing tokens keep working: the digest of the stored JWT is what the application looks up.
+-- Each gets its own family.
+UPDATE auth_refresh_tokens
+SET token_hash = UNHEX(SHA2(token, 256)),
+    family_id = UNHEX(REPLACE(UUID(), '-', ''))
+WHERE token_hash IS NULL;
+
+ALTER TABLE auth_refresh_tokens
+    MODIFY token_hash BINARY(32) NOT NULL,
+    MODIFY family_id BINARY(16) NOT NULL,
+    ADD UNIQUE INDEX uk_token_hash (token_hash),
+    ADD INDEX idx_family_id (family_id);
+
+-- Drops the 500-byte unique index and idx_token along with the column
+ALTER TABLE auth_refresh_tokens DROP COLUMN token;
@@ -0,0 +1,3 @@
+-- The worker booking index re-reads orders changed since its last check (WorkerBookingIndex),
+-- every few seconds on every instance.
+ALTER TABLE orders_orders ADD INDEX idx_updated_at (updated_at);
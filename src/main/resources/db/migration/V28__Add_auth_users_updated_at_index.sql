@@ -0,0 +1,3 @@
+-- The token revocation list re-reads accounts changed since its last check (TokenRevocationSync),
+-- every few seconds on every instance.
+ALTER TABLE auth_users ADD INDEX idx_updated_at (updated_at);
@@ -0,0 +1,75 @@
+package com.example.app.admin.application;
+
+import com.example.app.auth.repository.UserRepository;
+import com.example.app.orders.repository.OrderRepository;
+import com.example.app.services.repository.ServiceRepository;
+import com.example.app.shared.metrics.SqlRequestStats;
+import com.example.app.support.IntegrationTest;
+import com.example.app.support.OrderFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The admin order listings load customers and services in bulk, so the number of statements does
+ * not grow with the page size.
+ */
+class AdminServiceOrderListingTest extends IntegrationTest {
+
+    private static final int ORDERS = 60;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    private OrderFixture fixture;
+
+    @BeforeEach
+    void seedOrders() {
+        fixture = new OrderFixture(orderRepository, userRepository, serviceRepository);
+        // Spread over every customer and service, so each page references many of both
+        fixture.completedOrders(ORDERS, fixture.userIds(), fixture.serviceIds());
+    }
+
+    @AfterEach
+    void deleteOrders() {
+        fixture.deleteOrders();
+    }
+
+    @Test
+    void getAllOrdersIssuesTheSameStatementsForAnyPageSize() {
+        Sort newestFirst = Sort.by(Sort.Direction.DESC, "createdAt");
+        SqlRequestStats small = SqlRequestStats.measure(
+                () -> assertThat(adminService.getAllOrders(PageRequest.of(0, 5, newestFirst)).getContent()).hasSize(5));
+        assertThat(small.getStatements()).isPositive();
+
+        SqlRequestStats.measure(
+                        () -> assertThat(adminService.getAllOrders(PageRequest.of(0, ORDERS, newestFirst)).getContent())
+                                .hasSize(ORDERS))
+                .assertStatementsAtMost(small.getStatements());
+    }
+
+    @Test
+    void getOrdersByCursorIssuesTheSameStatementsForAnyPageSize() {
+        SqlRequestStats small = SqlRequestStats.measure(
+                () -> assertThat(adminService.getOrdersByCursor(null, 5).getContent()).hasSize(5));
+        assertThat(small.getStatements()).isPositive();
+
+        SqlRequestStats.measure(
+                        () -> assertThat(adminService.getOrdersByCursor(null, ORDERS).getContent()).hasSize(ORDERS))
+                .assertStatementsAtMost(small.getStatements());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.app.auth.application;
+
+import com.example.app.auth.dto.LoginRequest;
+import com.example.app.auth.dto.RegisterRequest;
+import com.example.app.shared.exception.UnauthorizedException;
+import com.example.app.support.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A username remembered as unknown can log in as soon as its registration commits.
+ */
+class LoginAttemptGuardTest extends IntegrationTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private LoginAttemptGuard loginAttemptGuard;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UnknownUsernames unknownUsernames;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String username = "guard" + UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void deleteUser() {
+        jdbcTemplate.update("DELETE FROM auth_users WHERE username = ?", username);
+    }
+
+    @Test
+    void registeringAnUnknownUsernameLetsItLogIn() {
+        assertThatThrownBy(() -> loginAttemptGuard.login(loginRequest(), "10.0.0.1"))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThat(unknownUsernames.contains(username)).isTrue();
+
+        RegisterRequest register = new RegisterRequest();
+        register.setUsername(username);
+        register.setEmail(username + "@test.local");
+        register.setPassword(PASSWORD);
+        register.setConfirmPassword(PASSWORD);
+        authService.register(register);
+
+        assertThat(unknownUsernames.contains(username)).isFalse();
+        assertThat(loginAttemptGuard.login(loginRequest(), "10.0.0.1").getAccessToken()).isNotBlank();
+    }
+
+    private LoginRequest loginRequest() {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(username);
+        request.setPassword(PASSWORD);
+        return request;
+    }
+}
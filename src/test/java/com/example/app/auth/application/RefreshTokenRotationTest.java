@@ -0,0 +1,163 @@
+package com.example.app.auth.application;
+
+import com.example.app.auth.domain.RefreshToken;
+import com.example.app.auth.dto.AuthResponse;
+import com.example.app.auth.dto.RefreshTokenRequest;
+import com.example.app.auth.dto.RegisterRequest;
+import com.example.app.shared.exception.TooManyRequestsException;
+import com.example.app.shared.exception.UnauthorizedException;
+import com.example.app.shared.security.JwtTokenProvider;
+import com.example.app.support.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A refresh token can be rotated once: a second use, even a concurrent one, revokes its family.
+ * A write-behind rotation that times out before a batch claims it is never written.
+ */
+@TestPropertySource(properties = "app.auth.refresh-rotation.write-behind.enabled=true")
+class RefreshTokenRotationTest extends IntegrationTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private RefreshTokenRotationService rotationService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<String> usernames = new ArrayList<>();
+
+    @AfterEach
+    void deleteUsers() {
+        // Refresh tokens go with their user (ON DELETE CASCADE)
+        usernames.forEach(username -> jdbcTemplate.update("DELETE FROM auth_users WHERE username = ?", username));
+    }
+
+    @Test
+    void concurrentRotationsOfOneTokenLetExactlyOneWinAndRevokeTheFamily() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            String token = register().getRefreshToken();
+            String familyId = tokenProvider.verify(token).orElseThrow().getFamilyId();
+
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            List<Future<AuthResponse>> attempts = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    return rotationService.refresh(refreshRequest(token));
+                }));
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+            int won = 0;
+            int rejected = 0;
+            for (Future<AuthResponse> attempt : attempts) {
+                try {
+                    attempt.get();
+                    won++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).as("round %d", round).isInstanceOf(UnauthorizedException.class);
+                    rejected++;
+                }
+            }
+            assertThat(won).as("round %d winners", round).isEqualTo(1);
+            assertThat(rejected).as("round %d rejected", round).isEqualTo(1);
+            // The reuse revoked the whole family, including the winner's new token
+            assertThat(tokensOfFamily(familyId)).as("round %d tokens left in the family", round).isZero();
+        }
+    }
+
+    @Test
+    void rotationCancelledBeforeABatchClaimsItIsNeverWritten() throws Exception {
+        String token = register().getRefreshToken();
+        String familyId = tokenProvider.verify(token).orElseThrow().getFamilyId();
+        Long userId = Long.valueOf(tokenProvider.verify(token).orElseThrow().getUserId());
+
+        // Not started yet, so nothing is flushed until the rotation has timed out and been cancelled
+        RefreshTokenWriteBehind writeBehind = new RefreshTokenWriteBehind(jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(writeBehind, "enabled", true);
+        ReflectionTestUtils.setField(writeBehind, "timeoutMs", 100L);
+        ReflectionTestUtils.setField(writeBehind, "flushIntervalMs", 5L);
+        ReflectionTestUtils.setField(writeBehind, "maxBatch", 200);
+        ReflectionTestUtils.setField(writeBehind, "maxRecent", 1000);
+
+        String next = tokenProvider.generateRefreshToken(userId.toString(), familyId);
+        RefreshToken replacement = RefreshToken.issued(userId, UUID.fromString(familyId), next,
+                tokenProvider.getExpirationDateFromToken(next));
+        assertThatThrownBy(() -> writeBehind.rotate(RefreshToken.hash(token), replacement))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // The flusher now finds the cancelled rotation still queued and must skip it
+        ReflectionTestUtils.invokeMethod(writeBehind, "start");
+        try {
+            TimeUnit.MILLISECONDS.sleep(500);
+        } finally {
+            ReflectionTestUtils.invokeMethod(writeBehind, "stop");
+        }
+        assertThat(tokenStored(RefreshToken.hash(token))).isTrue();
+        assertThat(tokenStored(replacement.getTokenHash())).isFalse();
+
+        // The old token was never rotated, so it still works, and only once
+        assertThat(rotationService.refresh(refreshRequest(token)).getRefreshToken()).isNotNull();
+        assertThatThrownBy(() -> rotationService.refresh(refreshRequest(token)))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    private AuthResponse register() {
+        String username = "rotation" + UUID.randomUUID().toString().substring(0, 8);
+        usernames.add(username);
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@test.local");
+        request.setPassword(PASSWORD);
+        request.setConfirmPassword(PASSWORD);
+        return authService.register(request);
+    }
+
+    private static RefreshTokenRequest refreshRequest(String token) {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken(token);
+        return request;
+    }
+
+    private int tokensOfFamily(String familyId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auth_refresh_tokens WHERE family_id = UNHEX(REPLACE(?, '-', ''))",
+                Integer.class, familyId);
+    }
+
+    private boolean tokenStored(byte[] hash) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auth_refresh_tokens WHERE token_hash = ?",
+                Integer.class, (Object) hash) > 0;
+    }
+}
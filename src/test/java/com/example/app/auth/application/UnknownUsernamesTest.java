@@ -0,0 +1,81 @@
+package com.example.app.auth.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnknownUsernamesTest {
+
+    private final UnknownUsernames unknownUsernames = new UnknownUsernames();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(unknownUsernames, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(unknownUsernames, "maxEntries", 100);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void matchesUsernamesTrimmedAndCaseInsensitively() {
+        unknownUsernames.add("Alice ");
+
+        assertThat(unknownUsernames.contains("alice")).isTrue();
+        assertThat(unknownUsernames.contains(" ALICE")).isTrue();
+        assertThat(unknownUsernames.contains("bob")).isFalse();
+    }
+
+    @Test
+    void removeWaitsForTheRegistrationToCommit() {
+        unknownUsernames.add("alice");
+        TransactionSynchronizationManager.initSynchronization();
+
+        unknownUsernames.remove("Alice");
+        assertThat(unknownUsernames.contains("alice")).isTrue();
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        assertThat(unknownUsernames.contains("alice")).isFalse();
+    }
+
+    @Test
+    void removeIsDroppedWhenTheRegistrationRollsBack() {
+        unknownUsernames.add("alice");
+        TransactionSynchronizationManager.initSynchronization();
+
+        unknownUsernames.remove("alice");
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(unknownUsernames.contains("alice")).isTrue();
+    }
+
+    @Test
+    void removeWithoutATransactionIsImmediate() {
+        unknownUsernames.add("alice");
+
+        unknownUsernames.remove("alice");
+        assertThat(unknownUsernames.contains("alice")).isFalse();
+    }
+
+    @Test
+    void entriesExpireAfterTheTtl() {
+        ReflectionTestUtils.setField(unknownUsernames, "ttlMs", 1L);
+        unknownUsernames.add("alice");
+
+        long until = System.currentTimeMillis() + 10;
+        while (System.currentTimeMillis() < until) {
+            Thread.onSpinWait();
+        }
+        assertThat(unknownUsernames.contains("alice")).isFalse();
+    }
+}
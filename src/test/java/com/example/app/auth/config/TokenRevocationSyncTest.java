@@ -0,0 +1,59 @@
+package com.example.app.auth.config;
+
+import com.example.app.auth.domain.User;
+import com.example.app.auth.repository.UserRepository;
+import com.example.app.shared.security.JwtTokenProvider;
+import com.example.app.shared.security.TokenRevocationList;
+import com.example.app.support.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * An account blocked on another instance (here: by direct SQL) is revoked by the next check.
+ */
+class TokenRevocationSyncTest extends IntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String username = "revocation" + UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void deleteUser() {
+        jdbcTemplate.update("DELETE FROM auth_users WHERE username = ?", username);
+    }
+
+    @Test
+    void accountChangedElsewhereIsRevokedByTheNextCheck() {
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@test.local")
+                .password("unused")
+                .build());
+        String userId = user.getId().toString();
+
+        TokenRevocationList revocationList = new TokenRevocationList(tokenProvider);
+        TokenRevocationSync sync = new TokenRevocationSync(userRepository, tokenProvider, revocationList);
+        sync.run();
+        assertThat(revocationList.isRevoked(userId, 0)).isFalse();
+
+        jdbcTemplate.update("UPDATE auth_users SET account_version = account_version + 1, enabled = FALSE WHERE id = ?",
+                user.getId());
+        sync.checkForChanges();
+
+        assertThat(revocationList.isRevoked(userId, 0)).isTrue();
+        assertThat(revocationList.isRevoked(userId, 1)).isFalse();
+    }
+}
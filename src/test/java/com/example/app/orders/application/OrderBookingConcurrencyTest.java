@@ -0,0 +1,146 @@
+package com.example.app.orders.application;
+
+import com.example.app.auth.domain.Role;
+import com.example.app.auth.domain.User;
+import com.example.app.auth.repository.UserRepository;
+import com.example.app.orders.domain.Order;
+import com.example.app.orders.dto.CreateOrderRequest;
+import com.example.app.orders.repository.OrderRepository;
+import com.example.app.services.repository.ServiceRepository;
+import com.example.app.shared.exception.BadRequestException;
+import com.example.app.support.IntegrationTest;
+import com.example.app.workers.repository.WorkerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires thousands of parallel bookings at a few workers and slots through
+ * {@link OrderService#createOrder} and checks that every slot is booked exactly once.
+ */
+class OrderBookingConcurrencyTest extends IntegrationTest {
+
+    private static final int WORKERS = 3;
+    private static final int SLOTS_PER_WORKER = 20;
+    private static final int ATTEMPTS_PER_SLOT = 40;
+    private static final int THREADS = 32;
+    private static final List<Order.OrderStatus> ACTIVE_STATUSES =
+            List.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED, Order.OrderStatus.IN_PROGRESS);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private WorkerRepository workerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> workerIds = List.of();
+    private LocalDateTime day;
+
+    @AfterEach
+    void deleteOrders() {
+        // Leave no bookings behind for the tests that count orders
+        for (Long workerId : workerIds) {
+            jdbcTemplate.update("DELETE FROM orders_orders WHERE worker_id = ? AND scheduled_at >= ? AND scheduled_at < ?",
+                    workerId, day, day.plusDays(1));
+        }
+    }
+
+    @Test
+    void parallelBookingsNeverDoubleBookAWorker() throws Exception {
+        workerIds = workerRepository.findByRole(Role.WORKER).stream()
+                .map(User::getId)
+                .limit(WORKERS)
+                .collect(Collectors.toList());
+        assertThat(workerIds).hasSize(WORKERS);
+        Long customerId = userRepository.findAll().stream()
+                .filter(user -> user.getRole() != Role.WORKER)
+                .findFirst().orElseThrow().getId();
+        Long serviceId = serviceRepository.findAll().get(0).getId();
+        // A day of its own, so the test does not depend on what else the database holds
+        day = LocalDateTime.of(2031, 1, 1, 0, 0).plusDays(ThreadLocalRandom.current().nextInt(2000));
+
+        List<CreateOrderRequest> attempts = new ArrayList<>();
+        for (Long workerId : workerIds) {
+            for (int slot = 0; slot < SLOTS_PER_WORKER; slot++) {
+                for (int i = 0; i < ATTEMPTS_PER_SLOT; i++) {
+                    // Adjacent one-hour slots, each contended by ATTEMPTS_PER_SLOT requests
+                    attempts.add(CreateOrderRequest.builder()
+                            .serviceId(serviceId)
+                            .workerId(workerId)
+                            .scheduledAt(day.plusHours(slot))
+                            .durationMinutes(60)
+                            .addressLine("1 Test Street")
+                            .build());
+                }
+            }
+        }
+        Collections.shuffle(attempts);
+
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        for (CreateOrderRequest attempt : attempts) {
+            executor.submit(() -> {
+                try {
+                    orderService.createOrder(customerId, attempt);
+                    booked.incrementAndGet();
+                } catch (BadRequestException e) {
+                    rejected.incrementAndGet();
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).as("bookings finished").isTrue();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        String run = String.format("%d booking attempts in %.1f s (%.0f/s), %d booked, %d rejected",
+                attempts.size(), seconds, attempts.size() / seconds, booked.get(), rejected.get());
+
+        assertThat(failures).as(run).isEmpty();
+        assertThat(booked.get()).as(run).isEqualTo(WORKERS * SLOTS_PER_WORKER);
+        assertThat(rejected.get()).as(run).isEqualTo(attempts.size() - WORKERS * SLOTS_PER_WORKER);
+
+        for (Long workerId : workerIds) {
+            List<Order> orders = orderRepository.findConflictingOrdersForWorker(workerId, day, day.plusDays(1),
+                    ACTIVE_STATUSES);
+            orders.sort(Comparator.comparing(Order::getScheduledAt));
+            assertThat(orders).hasSize(SLOTS_PER_WORKER);
+            for (int i = 1; i < orders.size(); i++) {
+                assertThat(orders.get(i).getScheduledAt())
+                        .as("worker %d booking %d starts after the previous one ends", workerId, i)
+                        .isAfterOrEqualTo(orders.get(i - 1).getScheduledEnd());
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.app.services.application;
+
+import com.example.app.services.mapper.ServiceMapper;
+import com.example.app.services.repository.ServiceRepository;
+import com.example.app.support.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Without a snapshot (catalog cache disabled), the catalog version still moves when the table is
+ * written behind the application's back.
+ */
+class ServiceCatalogCacheTest extends IntegrationTest {
+
+    private static final String NAME = "Catalog cache test service";
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private ServiceMapper serviceMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteService() {
+        jdbcTemplate.update("DELETE FROM services_services WHERE name = ?", NAME);
+    }
+
+    @Test
+    void versionMovesWithTheTableWhenNothingIsCached() {
+        // Never read, like the bean behind app.services.catalog-cache.enabled=false
+        ServiceCatalogCache cache = new ServiceCatalogCache(serviceRepository, serviceMapper);
+        ReflectionTestUtils.setField(cache, "maxAgeMs", 600000L);
+
+        cache.checkForChanges();
+        long version = cache.getVersion();
+        cache.checkForChanges();
+        assertThat(cache.getVersion()).as("unchanged table").isEqualTo(version);
+
+        jdbcTemplate.update("INSERT INTO services_services (name, base_price) VALUES (?, 10)", NAME);
+        cache.checkForChanges();
+        assertThat(cache.getVersion()).as("after an external insert").isGreaterThan(version);
+    }
+}
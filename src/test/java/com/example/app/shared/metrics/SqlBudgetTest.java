@@ -0,0 +1,88 @@
+package com.example.app.shared.metrics;
+
+import com.example.app.auth.repository.UserRepository;
+import com.example.app.orders.repository.OrderRepository;
+import com.example.app.services.repository.ServiceRepository;
+import com.example.app.support.IntegrationTest;
+import com.example.app.support.OrderFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Requests to budgeted endpoints stay within the statement budget configured in
+ * {@code app.sql-budget.endpoints}, so a new N+1 fails the build instead of only logging a warning.
+ */
+class SqlBudgetTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestSqlMetricsFilter requestSqlMetricsFilter;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    private OrderFixture fixture;
+
+    @BeforeEach
+    void seedOrders() {
+        fixture = new OrderFixture(orderRepository, userRepository, serviceRepository);
+        // One order per user, so a page that loaded customers one by one would blow the budget
+        List<Long> userIds = fixture.userIds();
+        fixture.completedOrders(userIds.size(), userIds, fixture.serviceIds().subList(0, 1));
+    }
+
+    @AfterEach
+    void deleteOrders() {
+        fixture.deleteOrders();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminOrderListingStaysWithinBudget() throws Exception {
+        assertWithinBudget("/api/admin/orders", "/api/admin/orders?size=100");
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminUserListingStaysWithinBudget() throws Exception {
+        assertWithinBudget("/api/admin/users", "/api/admin/users?size=100");
+    }
+
+    @Test
+    void workerSearchStaysWithinBudget() throws Exception {
+        assertWithinBudget("/api/workers", "/api/workers?service=sua");
+    }
+
+    @Test
+    void serviceCatalogStaysWithinBudget() throws Exception {
+        assertWithinBudget("/api/services", "/api/services");
+    }
+
+    private void assertWithinBudget(String pattern, String url) throws Exception {
+        MvcResult result = mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn();
+        String statements = result.getResponse().getHeader("X-SQL-Statements");
+        assertThat(statements).as("X-SQL-Statements header").isNotNull();
+        assertThat(Integer.parseInt(statements))
+                .as("SQL statements for GET %s", url)
+                .isLessThanOrEqualTo(requestSqlMetricsFilter.budgetFor(pattern));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.app.shared.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void allowsABurstOfCapacityThenReportsTheWaitForTheNextToken() {
+        // One token per second
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 3, 60, 100, meterRegistry);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+
+        long wait = limiter.tryAcquire("a");
+        assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+        // Only the time since the burst started has refilled anything
+        assertThat(wait).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(meterRegistry.counter("app.rate-limit.rejected", "limit", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1, 60, 100, meterRegistry);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() throws InterruptedException {
+        // One token per 100 ms
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 2, 600, 100, meterRegistry);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+
+        long wait = limiter.tryAcquire("a");
+        assertThat(wait).isPositive();
+        TimeUnit.NANOSECONDS.sleep(wait);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        // That refill was one token, not a full bucket
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void rejectedAttemptsDoNotPushTheRefillFurtherOut() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1, 60, 100, meterRegistry);
+        assertThat(limiter.tryAcquire("a")).isZero();
+
+        long first = limiter.tryAcquire("a");
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("a");
+        }
+        assertThat(limiter.tryAcquire("a")).isLessThanOrEqualTo(first);
+    }
+
+    @Test
+    void dropsBucketsThatAreFullAgainBeforeGrowingPastMaxKeys() throws InterruptedException {
+        // One token per 10 ms, so every bucket is full again shortly after its only use
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1, 6000, 10, meterRegistry);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("key" + i);
+        }
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        assertThat(limiter.tryAcquire("new")).isZero();
+        assertThat(keys()).isEqualTo(1);
+    }
+
+    @Test
+    void staysBoundedUnderAFloodOfDistinctKeys() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1, 1, 100, meterRegistry);
+        for (int i = 0; i < 1_000; i++) {
+            // Every key gets its first attempt, nobody is locked out by the flood
+            assertThat(limiter.tryAcquire("key" + i)).isZero();
+        }
+        assertThat(keys()).isLessThanOrEqualTo(100);
+    }
+
+    private double keys() {
+        return meterRegistry.get("app.rate-limit.keys").tag("limit", "test").gauge().value();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.app.shared.util;
+
+import com.example.app.admin.application.AdminService;
+import com.example.app.news.application.NewsService;
+import com.example.app.orders.application.OrderService;
+import com.example.app.services.application.ServiceServiceImpl;
+import com.example.app.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every whitelisted sort, in both directions, can be served by reading the index it is bound to
+ * instead of sorting the table ("Using filesort").
+ *
+ * <p>The test schema holds a handful of rows, on which the optimizer rightly prefers a scan, so the
+ * plan is taken with the bound index forced: this checks that the index exists and matches the
+ * query's WHERE clause and ORDER BY, not what the optimizer picks for a given data size.
+ */
+class SortIndexTest extends IntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Each registry with the WHERE clause its query always applies, using sample values.
+     */
+    private static Map<SortableFields, String> registries() {
+        Map<SortableFields, String> registries = new LinkedHashMap<>();
+        registries.put(AdminService.USER_SORTS, null);
+        registries.put(AdminService.ORDER_SORTS, null);
+        registries.put(ServiceServiceImpl.CATALOG_SORTS, null);
+        registries.put(OrderService.USER_ORDER_SORTS, "user_id = 1");
+        registries.put(NewsService.PUBLISHED_NEWS_SORTS, "published = TRUE");
+        return registries;
+    }
+
+    @Test
+    void everyWhitelistedSortUsesItsIndex() {
+        List<String> problems = new ArrayList<>();
+        registries().forEach((sortableFields, where) -> sortableFields.getFields().forEach((property, field) -> {
+            for (String direction : List.of("ASC", "DESC")) {
+                String sql = "EXPLAIN SELECT * FROM " + sortableFields.getTable()
+                        + " FORCE INDEX (`" + field.getIndex() + "`)"
+                        + (where != null ? " WHERE " + where : "")
+                        + " ORDER BY " + field.getColumn() + " " + direction + " LIMIT 20";
+                Map<String, Object> plan;
+                try {
+                    plan = jdbcTemplate.queryForList(sql).get(0);
+                } catch (DataAccessException e) {
+                    // Most likely the index does not exist
+                    problems.add(sortableFields.getTable() + "." + property + ": " + e.getMostSpecificCause().getMessage());
+                    continue;
+                }
+                Object key = plan.get("key");
+                String extra = plan.get("Extra") != null ? plan.get("Extra").toString() : "";
+                if (!field.getIndex().equals(key) || extra.contains("filesort")) {
+                    problems.add(sortableFields.getTable() + "." + property + " " + direction + " expected "
+                            + field.getIndex() + " but got key=" + key + ", extra=" + extra);
+                }
+            }
+        }));
+        assertThat(problems).isEmpty();
+    }
+}
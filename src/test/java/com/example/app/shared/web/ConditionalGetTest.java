@@ -0,0 +1,48 @@
+package com.example.app.shared.web;
+
+import com.example.app.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The identity and gzip representations of a cached response carry their own strong ETag, and each
+ * only revalidates itself.
+ */
+class ConditionalGetTest extends IntegrationTest {
+
+    private static final String URL = "/api/services";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void gzipAndIdentityBytesHaveDifferentEtags() throws Exception {
+        MvcResult identity = mockMvc.perform(get(URL)).andExpect(status().isOk()).andReturn();
+        MvcResult gzip = mockMvc.perform(get(URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk()).andReturn();
+        assertThat(gzip.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING))
+                .as("catalog large enough to be gzipped").isEqualTo("gzip");
+
+        String identityEtag = identity.getResponse().getHeader(HttpHeaders.ETAG);
+        String gzipEtag = gzip.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(identityEtag).isNotNull().startsWith("\"");
+        assertThat(gzipEtag).isNotNull().isNotEqualTo(identityEtag);
+
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, identityEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isNotModified());
+        // Holding the other representation is not a match
+        mockMvc.perform(get(URL).header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.IF_NONE_MATCH, identityEtag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isOk());
+    }
+}
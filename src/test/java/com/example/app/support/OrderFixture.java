@@ -0,0 +1,60 @@
+package com.example.app.support;
+
+import com.example.app.auth.domain.User;
+import com.example.app.auth.repository.UserRepository;
+import com.example.app.orders.domain.Order;
+import com.example.app.orders.repository.OrderRepository;
+import com.example.app.services.repository.ServiceRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds completed orders for listing tests and deletes exactly those again, so tests that count
+ * orders do not depend on which other tests ran first. Customers and services are whatever the
+ * database holds, never assumed ids.
+ */
+@RequiredArgsConstructor
+public class OrderFixture {
+
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final ServiceRepository serviceRepository;
+
+    private final List<Long> orderIds = new ArrayList<>();
+
+    public List<Long> userIds() {
+        return userRepository.findAll().stream().map(User::getId).toList();
+    }
+
+    public List<Long> serviceIds() {
+        return serviceRepository.findAll().stream()
+                .map(com.example.app.services.domain.Service::getId).toList();
+    }
+
+    /**
+     * Insert {@code count} completed orders, spread round-robin over the given customers and services.
+     */
+    public void completedOrders(int count, List<Long> userIds, List<Long> serviceIds) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orders.add(Order.builder()
+                    .userId(userIds.get(i % userIds.size()))
+                    .serviceId(serviceIds.get(i % serviceIds.size()))
+                    .status(Order.OrderStatus.COMPLETED)
+                    .totalAmount(BigDecimal.TEN)
+                    .build());
+        }
+        orderRepository.saveAll(orders).forEach(order -> orderIds.add(order.getId()));
+    }
+
+    /**
+     * Delete every order this fixture inserted.
+     */
+    public void deleteOrders() {
+        orderRepository.deleteAllByIdInBatch(orderIds);
+        orderIds.clear();
+    }
+}
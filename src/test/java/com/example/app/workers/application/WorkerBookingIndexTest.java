@@ -0,0 +1,55 @@
+package com.example.app.workers.application;
+
+import com.example.app.support.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Orders written behind the index's back, as another instance would, show up after the next check.
+ */
+class WorkerBookingIndexTest extends IntegrationTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2032, 3, 1, 9, 0);
+
+    @Autowired
+    private WorkerBookingIndex workerBookingIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long workerId;
+
+    @AfterEach
+    void deleteOrders() {
+        jdbcTemplate.update("DELETE FROM orders_orders WHERE worker_id = ? AND scheduled_at = ?", workerId, START);
+    }
+
+    @Test
+    void picksUpBookingsAndCancellationsMadeElsewhere() {
+        workerId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM auth_users WHERE role = 'WORKER'", Long.class);
+        Long customerId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM auth_users WHERE role = 'USER'", Long.class);
+        Long serviceId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM services_services", Long.class);
+        assertThat(workerBookingIndex.findBusyWorkers(List.of(workerId), START, START.plusHours(1))).isEmpty();
+
+        jdbcTemplate.update("INSERT INTO orders_orders (user_id, service_id, worker_id, scheduled_at, duration_minutes, "
+                        + "scheduled_end, status, total_amount) VALUES (?, ?, ?, ?, 60, ?, 'CONFIRMED', 10)",
+                customerId, serviceId, workerId, START, START.plusHours(1));
+        workerBookingIndex.checkForChanges();
+        assertThat(workerBookingIndex.findBusyWorkers(List.of(workerId), START, START.plusHours(1)))
+                .containsExactly(workerId);
+
+        jdbcTemplate.update("UPDATE orders_orders SET status = 'CANCELLED' WHERE worker_id = ? AND scheduled_at = ?",
+                workerId, START);
+        workerBookingIndex.checkForChanges();
+        assertThat(workerBookingIndex.findBusyWorkers(List.of(workerId), START, START.plusHours(1))).isEmpty();
+    }
+}
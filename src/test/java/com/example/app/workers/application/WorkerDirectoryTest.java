@@ -0,0 +1,47 @@
+package com.example.app.workers.application;
+
+import com.example.app.support.IntegrationTest;
+import com.example.app.workers.dto.WorkerDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Workers written behind the directory's back, as another instance would, show up after the next check.
+ */
+class WorkerDirectoryTest extends IntegrationTest {
+
+    private static final String SKILL = "thongcongdirectory";
+
+    @Autowired
+    private WorkerDirectory workerDirectory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String username = "directory" + UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void deleteUser() {
+        jdbcTemplate.update("DELETE FROM auth_users WHERE username = ?", username);
+    }
+
+    @Test
+    void picksUpWorkersAddedAndDemotedElsewhere() {
+        assertThat(workerDirectory.search(SKILL)).isEmpty();
+
+        jdbcTemplate.update("INSERT INTO auth_users (username, email, password, role, skills) VALUES (?, ?, 'unused', 'WORKER', ?)",
+                username, username + "@test.local", SKILL);
+        workerDirectory.checkForChanges();
+        assertThat(workerDirectory.search(SKILL)).extracting(WorkerDto::getUsername).containsExactly(username);
+
+        jdbcTemplate.update("UPDATE auth_users SET role = 'USER' WHERE username = ?", username);
+        workerDirectory.checkForChanges();
+        assertThat(workerDirectory.search(SKILL)).isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.app.support;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import ch.vorburger.exec.ManagedProcessException;
+
+/**
+ * One embedded MariaDB per JVM, started on first use and stopped when the JVM exits. Shared by
+ * the integration tests and the load test (src/loadtest) as a test fixture.
+ *
+ * <p>Both need the real engine: row locks, EXPLAIN and the Flyway migrations are all
+ * MariaDB-specific.
+ */
+public final class EmbeddedMariaDb {
+
+    private static String jdbcUrl;
+
+    private EmbeddedMariaDb() {
+    }
+
+    public static synchronized String jdbcUrl() {
+        if (jdbcUrl == null) {
+            jdbcUrl = start();
+        }
+        return jdbcUrl;
+    }
+
+    private static String start() {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+        if ("root".equals(System.getProperty("user.name"))) {
+            // mysqld refuses to run as root unless told to, which CI containers usually are
+            config.addArg("--user=root");
+        }
+        try {
+            DB db = DB.newEmbeddedDB(config.build());
+            db.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    db.stop();
+                } catch (ManagedProcessException e) {
+                    // The JVM is exiting anyway
+                }
+            }));
+            // Created by the driver, which avoids depending on the bundled mysql client
+            return "jdbc:mariadb://localhost:" + db.getConfiguration().getPort()
+                    + "/app_db?createDatabaseIfNotExist=true&useSSL=false";
+        } catch (ManagedProcessException e) {
+            throw new IllegalStateException("Could not start embedded MariaDB", e);
+        }
+    }
+}